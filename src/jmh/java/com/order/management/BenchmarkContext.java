@@ -0,0 +1,89 @@
+package com.order.management;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application without the web server for benchmarks that need the real JPA and
+ * H2 stack. Each context gets its own in-memory database, and the scheduled background work
+ * is pushed out of the measurement window.
+ */
+public final class BenchmarkContext {
+    public static final int CUSTOMERS = 10_000;
+    public static final int SEED_DAYS = 90;
+    private static final int SEED_BATCH = 1_000;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @param properties extra {@code key=value} overrides applied on top of application.properties
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "logging.level.root=WARN",
+                "logging.level.com.order.management=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "notification.outbox.poll-interval-ms=3600000",
+                "order.stats.reconcile-interval-ms=3600000",
+                "order.events.heartbeat-ms=3600000"));
+        defaults.addAll(List.of(properties));
+        return new SpringApplicationBuilder(OrderManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Inserts {@code rows} orders straight through JDBC, spread over the last {@link #SEED_DAYS}
+     * days, all statuses and {@link #CUSTOMERS} customers, so that seeding a million rows does
+     * not dominate the trial setup.
+     *
+     * @return the ids in insertion order
+     */
+    public static UUID[] seedOrders(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        UUID[] ids = new UUID[rows];
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).minusDays(SEED_DAYS);
+        long stepMicros = Math.max(1, ChronoUnit.MICROS.between(start, LocalDateTime.now()) / Math.max(1, rows));
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < rows; i++) {
+            ids[i] = OrderIdGenerator.next();
+            int customer = i % CUSTOMERS;
+            Timestamp createdAt = Timestamp.valueOf(start.plus(i * stepMicros, ChronoUnit.MICROS));
+            batch.add(new Object[]{ids[i], "Customer " + customer, email(customer), mobile(customer),
+                    BigDecimal.valueOf(1000 + i % 50_000, 2), STATUSES[i % STATUSES.length].name(),
+                    NotificationType.EMAIL.name(), createdAt, createdAt});
+            if (batch.size() == SEED_BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into orders (id, customer_name, customer_email, mobile_number, "
+                        + "total_amount, status, preferred_notification_type, created_at, updated_at, version) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    public static String email(int customer) {
+        return "customer" + customer + "@example.com";
+    }
+
+    public static String mobile(int customer) {
+        return String.valueOf(9_000_000_000L + customer);
+    }
+}
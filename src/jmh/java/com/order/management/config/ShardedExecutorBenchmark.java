@@ -0,0 +1,77 @@
+package com.order.management.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-off throughput of the per-key lanes against a plain shared-queue pool with the same
+ * thread count. The pool gives no per-key ordering, so it is the upper bound the lanes are
+ * measured against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardedExecutorBenchmark {
+    private static final int TASKS = 10_000;
+    private static final int KEYS = 256;
+
+    public enum Kind { SHARDED, POOL }
+
+    @Param({"SHARDED", "POOL"})
+    private Kind kind;
+
+    @Param({"4"})
+    private int threads;
+
+    private ShardedExecutor sharded;
+    private ExecutorService pool;
+
+    @Setup
+    public void setUp() {
+        sharded = new ShardedExecutor("bench-lane", threads, TASKS);
+        pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(TASKS));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        sharded.shutdown(1000);
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void submitAndDrain() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(TASKS);
+        Runnable task = done::countDown;
+        for (int i = 0; i < TASKS; i++) {
+            if (kind == Kind.SHARDED) {
+                if (!sharded.execute(i % KEYS, task)) {
+                    throw new IllegalStateException("lane rejected a task");
+                }
+            } else {
+                pool.execute(task);
+            }
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,36 @@
+package com.order.management.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation cost alone; the effect of the ids on the primary key index is measured by
+ * {@code OrderInsertBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class OrderIdGeneratorBenchmark {
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return OrderIdGenerator.next();
+    }
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+}
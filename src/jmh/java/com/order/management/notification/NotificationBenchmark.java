@@ -0,0 +1,72 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message rendering and channel lookup, both on the path of every notification.
+ * Run with {@code -prof gc} to check that {@code getStrategy} stays allocation-free.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationBenchmark {
+
+    @Param({"EMAIL", "SMS"})
+    private NotificationType type;
+
+    private NotificationMessageBuilder messageBuilder;
+    private NotificationStrategyFactory factory;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        messageBuilder = new NotificationMessageBuilder(new NotificationTemplateEngine("classpath:notification-templates/"));
+        NotificationChannelProperties properties = new NotificationChannelProperties();
+        properties.getChannels().put(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(List.of(NotificationDecoratorType.LOGGING, NotificationDecoratorType.RATE_LIMIT))
+                .build());
+        factory = new NotificationStrategyFactory(
+                List.of(new EmailNotificationStrategy(), new SMSNotificationStrategy()), properties,
+                Runnable::run, (order, type, status, message, attempts, lastError) -> { }, new SimpleMeterRegistry());
+        order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("149.99"), type);
+        order.setId(OrderIdGenerator.next());
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.destroy();
+    }
+
+    @Benchmark
+    public String buildMessage() {
+        return messageBuilder.buildMessage(order, OrderStatus.SHIPPED, type);
+    }
+
+    @Benchmark
+    public NotificationStrategy getStrategy() {
+        return factory.getStrategy(type);
+    }
+}
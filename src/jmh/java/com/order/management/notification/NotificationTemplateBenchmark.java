@@ -0,0 +1,56 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages rendered per second from the precompiled templates, for the one-line default
+ * templates and the multi-line localized ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class NotificationTemplateBenchmark {
+
+    @Param({"", "fr"})
+    private String languageTag;
+
+    @Param({"EMAIL", "SMS"})
+    private NotificationType type;
+
+    private NotificationTemplateEngine engine;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        engine = new NotificationTemplateEngine("classpath:notification-templates/");
+        order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("149.99"), type);
+        order.setId(OrderIdGenerator.next());
+    }
+
+    @Benchmark
+    public String render() {
+        return engine.render(order, OrderStatus.CREATED, type, languageTag);
+    }
+}
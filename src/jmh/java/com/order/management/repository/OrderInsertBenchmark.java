@@ -0,0 +1,86 @@
+package com.order.management.repository;
+
+import com.order.management.BenchmarkContext;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts through the repository with time-ordered (v7) against random (v4) ids,
+ * on top of an already populated table so that primary key index locality shows up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OrderInsertBenchmark {
+    private static final int BATCH = 50;
+
+    public enum IdStrategy { UUID_V7, UUID_V4 }
+
+    @Param({"UUID_V7", "UUID_V4"})
+    private IdStrategy idStrategy;
+
+    @Param({"100000"})
+    private int existingRows;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderRepository = context.getBean(OrderRepository.class);
+        List<Order> seed = new ArrayList<>(BATCH);
+        for (int i = 0; i < existingRows; i += BATCH) {
+            seed.clear();
+            for (int j = 0; j < BATCH; j++) {
+                seed.add(newOrder());
+            }
+            orderRepository.saveAll(seed);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Order> saveBatch() {
+        List<Order> orders = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            orders.add(newOrder());
+        }
+        return orderRepository.saveAll(orders);
+    }
+
+    private Order newOrder() {
+        Order order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("149.99"), NotificationType.EMAIL);
+        order.setId(idStrategy == IdStrategy.UUID_V7 ? OrderIdGenerator.next() : UUID.randomUUID());
+        return order;
+    }
+}
@@ -0,0 +1,77 @@
+package com.order.management.repository;
+
+import com.order.management.BenchmarkContext;
+import com.order.management.dto.OrderResponse;
+import com.order.management.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads against embedded H2: a managed entity load against the constructor projection that
+ * skips the persistence context, plus the first listing page.
+ * Run with {@code -prof gc} to compare their allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OrderRepositoryBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderRepository = context.getBean(OrderRepository.class);
+        ids = BenchmarkContext.seedOrders(context, rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Order> findById() {
+        return orderRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Optional<OrderResponse> findResponseById() {
+        return orderRepository.findResponseById(randomId());
+    }
+
+    @Benchmark
+    public List<OrderResponse> findFirstPage() {
+        return orderRepository.findFirstPage(PageRequest.of(0, 51));
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
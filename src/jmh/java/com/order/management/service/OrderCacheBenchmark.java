@@ -0,0 +1,70 @@
+package com.order.management.service;
+
+import com.order.management.BenchmarkContext;
+import com.order.management.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-order reads through the service with the read-through cache on and off. Reads are
+ * drawn from a hot set that fits in the cache, the case the cache is meant for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(4)
+public class OrderCacheBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"1000"})
+    private int hotOrders;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private String[] hotIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("order.cache.enabled=" + cacheEnabled, "order.cache.ttl-ms=600000");
+        orderService = context.getBean(OrderService.class);
+        UUID[] ids = BenchmarkContext.seedOrders(context, rows);
+        hotIds = new String[Math.min(hotOrders, ids.length)];
+        for (int i = 0; i < hotIds.length; i++) {
+            hotIds[i] = ids[ids.length - 1 - i].toString();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return orderService.getOrder(hotIds[ThreadLocalRandom.current().nextInt(hotIds.length)]);
+    }
+}
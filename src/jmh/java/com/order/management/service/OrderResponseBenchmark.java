@@ -0,0 +1,71 @@
+package com.order.management.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.order.management.dto.OrderResponse;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the response DTO from an entity and writing it with an ObjectMapper configured
+ * like the application's (non-null inclusion, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderResponseBenchmark {
+
+    private OrderService orderService;
+    private ObjectWriter writer;
+    private Order order;
+    private OrderResponse response;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse touches none of the collaborators
+        orderService = new OrderService(null, null, null, null, OrderStateMachine.standard(), null, null);
+        writer = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(OrderResponse.class);
+        order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("149.99"), NotificationType.EMAIL);
+        order.setId(OrderIdGenerator.next());
+        response = orderService.mapToResponse(order);
+    }
+
+    @Benchmark
+    public OrderResponse mapToResponse() {
+        return orderService.mapToResponse(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(orderService.mapToResponse(order));
+    }
+}
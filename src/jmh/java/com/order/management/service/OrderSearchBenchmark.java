@@ -0,0 +1,95 @@
+package com.order.management.service;
+
+import com.order.management.BenchmarkContext;
+import com.order.management.dto.OrderPageResponse;
+import com.order.management.dto.OrderSearchCriteria;
+import com.order.management.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyset search and listing over a large table: each filter should stay on its index
+ * whatever the table size. Defaults to a million rows; pass {@code -p rows=...} for quicker runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class OrderSearchBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private String secondPageCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+        BenchmarkContext.seedOrders(context, rows);
+        secondPageCursor = orderService.getOrders(null, PAGE_SIZE).getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderPageResponse listFirstPage() {
+        return orderService.getOrders(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public OrderPageResponse listNextPage() {
+        return orderService.getOrders(secondPageCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public OrderPageResponse searchByStatus() {
+        return search(OrderSearchCriteria.builder().status(OrderStatus.SHIPPED).build());
+    }
+
+    @Benchmark
+    public OrderPageResponse searchByEmail() {
+        int customer = ThreadLocalRandom.current().nextInt(BenchmarkContext.CUSTOMERS);
+        return search(OrderSearchCriteria.builder().customerEmail(BenchmarkContext.email(customer)).build());
+    }
+
+    @Benchmark
+    public OrderPageResponse searchByMobile() {
+        int customer = ThreadLocalRandom.current().nextInt(BenchmarkContext.CUSTOMERS);
+        return search(OrderSearchCriteria.builder().mobileNumber(BenchmarkContext.mobile(customer)).build());
+    }
+
+    @Benchmark
+    public OrderPageResponse searchByStatusAndRange() {
+        LocalDateTime to = LocalDateTime.now();
+        return search(OrderSearchCriteria.builder().status(OrderStatus.CANCELLED)
+                .createdFrom(to.minusDays(7)).createdTo(to).build());
+    }
+
+    private OrderPageResponse search(OrderSearchCriteria criteria) {
+        return orderService.searchOrders(criteria, null, PAGE_SIZE);
+    }
+}
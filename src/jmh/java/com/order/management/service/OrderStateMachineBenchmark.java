@@ -0,0 +1,57 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The transition check run on every status update: the table lookup alone, the full
+ * validation with guards, and the allowed-next-states query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderStateMachineBenchmark {
+
+    private OrderStateMachine stateMachine;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        stateMachine = OrderStateMachine.standard();
+        order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("149.99"), NotificationType.EMAIL);
+    }
+
+    @Benchmark
+    public boolean isAllowed() {
+        return stateMachine.isAllowed(OrderStatus.CREATED, OrderStatus.SHIPPED);
+    }
+
+    @Benchmark
+    public Order validate() {
+        stateMachine.validate(order, OrderStatus.SHIPPED);
+        return order;
+    }
+
+    @Benchmark
+    public Set<OrderStatus> allowedNextStates() {
+        return stateMachine.allowedNextStates(OrderStatus.CREATED);
+    }
+}
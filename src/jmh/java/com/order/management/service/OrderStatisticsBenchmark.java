@@ -0,0 +1,66 @@
+package com.order.management.service;
+
+import com.order.management.BenchmarkContext;
+import com.order.management.dto.OrderStatsResponse;
+import com.order.management.dto.OrderStatsRow;
+import com.order.management.repository.OrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The stats endpoint's in-memory snapshot against the GROUP BY aggregate it replaced, which
+ * is still what reconciliation runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OrderStatisticsBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private OrderStatistics orderStatistics;
+    private OrderRepository orderRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderStatistics = context.getBean(OrderStatistics.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        BenchmarkContext.seedOrders(context, rows);
+        orderStatistics.reconcile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderStatsResponse snapshot() {
+        return orderStatistics.snapshot(OrderService.DEFAULT_STATS_DAYS);
+    }
+
+    @Benchmark
+    public List<OrderStatsRow> aggregateQuery() {
+        return orderRepository.aggregateStats();
+    }
+}
@@ -0,0 +1,31 @@
+package com.order.management.loadtest;
+
+/**
+ * The order API calls the load test mixes, keyed by the names used in {@code loadtest.mix},
+ * {@code loadtest.slo} and the report.
+ */
+public enum Endpoint {
+    CREATE("create"),
+    GET("get"),
+    LIST("list"),
+    STATUS_UPDATE("status-update");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "', expected one of create, get, list, status-update");
+    }
+}
@@ -0,0 +1,42 @@
+package com.order.management.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Measured-phase outcome of one endpoint. Latencies are in milliseconds, from each request's
+ * scheduled start rather than the moment it was actually sent.
+ */
+@Getter
+@AllArgsConstructor
+public class EndpointResult {
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    @JsonIgnore
+    private final Endpoint endpoint;
+    private final long count;
+    private final long errors;
+    private final double throughput;
+    private final double p50Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    /**
+     * @param latencies latencies in microseconds
+     */
+    static EndpointResult of(Endpoint endpoint, Histogram latencies, long errors, double seconds) {
+        long count = latencies.getTotalCount();
+        return new EndpointResult(endpoint, count, errors, count / seconds,
+                latencies.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                latencies.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                latencies.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    public double getErrorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+}
@@ -0,0 +1,133 @@
+package com.order.management.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator for the order API. Requests are started on a fixed schedule
+ * at {@code loadtest.rate} per second whether or not earlier ones have answered, and each
+ * latency is taken from the request's scheduled start, so a stalled server shows up as queueing
+ * delay instead of silently lowering the offered load (coordinated omission).
+ * SLO breaches are recorded in the report and enforced by {@link SloCheck} once the app under
+ * test has been stopped.
+ */
+public final class LoadTest {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final long DRAIN_TIMEOUT_MS = 30_000;
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final OrderWorkload workload;
+    private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long measureFrom;
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getTimeoutMs()))
+                .build();
+        this.workload = new OrderWorkload(config.getBaseUrl(), Duration.ofMillis(config.getTimeoutMs()), config.getMix());
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(MAX_LATENCY_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestReport report = new LoadTest(config).run();
+        report.print(System.out);
+        Path file = report.write(Path.of(config.getReportDirectory()));
+        System.out.println("Report written to " + file);
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        long lateStarts = 0;
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (-wait > intervalNanos) {
+                lateStarts++;
+            }
+            send(workload.next(), scheduled);
+        }
+        awaitInFlight();
+
+        double seconds = config.getDurationSeconds();
+        Map<Endpoint, EndpointResult> results = new LinkedHashMap<>();
+        List<String> breaches = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint).getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            EndpointResult result = EndpointResult.of(endpoint, histogram, errors.get(endpoint).sum(), seconds);
+            results.put(endpoint, result);
+            breaches.addAll(config.getSloPolicy().check(result));
+        }
+        return new LoadTestReport(config, seconds, lateStarts, results, breaches);
+    }
+
+    private void send(OrderWorkload.Call call, long scheduled) {
+        inFlight.incrementAndGet();
+        client.sendAsync(call.getRequest(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        record(call.getEndpoint(), scheduled, error != null || response.statusCode() >= 400);
+                        if (response != null) {
+                            workload.onResponse(call, response);
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Only requests scheduled after the warmup count, however late they complete.
+     */
+    private void record(Endpoint endpoint, long scheduled, boolean failed) {
+        if (scheduled < measureFrom) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+        latencies.get(endpoint).recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+        if (failed) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (inFlight.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
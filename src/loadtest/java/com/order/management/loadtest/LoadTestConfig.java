@@ -0,0 +1,74 @@
+package com.order.management.loadtest;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (the {@code loadtest}
+ * Maven profile forwards them).
+ */
+@Getter
+public final class LoadTestConfig {
+    private final String baseUrl;
+    private final String label;
+    private final int rate;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int timeoutMs;
+    private final Map<Endpoint, Integer> mix;
+    private final SloPolicy sloPolicy;
+    private final String reportDirectory;
+
+    private LoadTestConfig(String baseUrl, String label, int rate, int warmupSeconds, int durationSeconds,
+                           int timeoutMs, Map<Endpoint, Integer> mix, SloPolicy sloPolicy, String reportDirectory) {
+        if (rate < 1 || durationSeconds < 1 || warmupSeconds < 0 || timeoutMs < 1) {
+            throw new IllegalArgumentException("rate, duration and timeout must be positive, warmup must not be negative");
+        }
+        this.baseUrl = baseUrl;
+        this.label = label;
+        this.rate = rate;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.timeoutMs = timeoutMs;
+        this.mix = mix;
+        this.sloPolicy = sloPolicy;
+        this.reportDirectory = reportDirectory;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                System.getProperty("loadtest.label", "default"),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.warmup-seconds", 15),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Integer.getInteger("loadtest.timeout-ms", 10_000),
+                parseMix(System.getProperty("loadtest.mix", "create=20,get=50,list=20,status-update=10")),
+                SloPolicy.parse(System.getProperty("loadtest.slo", "p99=250,p99.9=1000,error-rate=0.001")),
+                System.getProperty("loadtest.report-dir", "target/loadtest"));
+    }
+
+    /**
+     * @param mix comma-separated {@code endpoint=weight} pairs, e.g. {@code create=20,get=80}
+     */
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected endpoint=weight");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight must not be negative: " + entry);
+            }
+            weights.put(Endpoint.fromKey(pair[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one endpoint a positive weight");
+        }
+        return weights;
+    }
+}
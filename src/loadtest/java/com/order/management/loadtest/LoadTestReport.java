@@ -0,0 +1,68 @@
+package com.order.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint results of a run, printed as a table and written as JSON to
+ * {@code <report-dir>/<label>.json} so runs with different settings can be compared.
+ */
+@Getter
+public class LoadTestReport {
+    private final String label;
+    private final int targetRate;
+    private final double measuredSeconds;
+    private final double throughput;
+    /**
+     * Requests the generator itself started more than one interval late; a high count means the
+     * load machine, not the server, limited the offered rate.
+     */
+    private final long lateStarts;
+    private final Map<String, EndpointResult> endpoints = new LinkedHashMap<>();
+    private final Map<String, Map<String, Double>> slo = new LinkedHashMap<>();
+    private final List<String> breaches;
+
+    LoadTestReport(LoadTestConfig config, double measuredSeconds, long lateStarts,
+                   Map<Endpoint, EndpointResult> results, List<String> breaches) {
+        this.label = config.getLabel();
+        this.targetRate = config.getRate();
+        this.measuredSeconds = measuredSeconds;
+        this.lateStarts = lateStarts;
+        this.breaches = breaches;
+        long total = 0;
+        for (Map.Entry<Endpoint, EndpointResult> entry : results.entrySet()) {
+            endpoints.put(entry.getKey().getKey(), entry.getValue());
+            Map<String, Double> limits = new LinkedHashMap<>();
+            config.getSloPolicy().limitsFor(entry.getKey()).forEach((metric, limit) -> limits.put(metric.getKey(), limit));
+            slo.put(entry.getKey().getKey(), limits);
+            total += entry.getValue().getCount();
+        }
+        this.throughput = total / measuredSeconds;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nLoad test '%s': target %d req/s, measured %.1f s, achieved %.1f req/s, %d late starts%n",
+                label, targetRate, measuredSeconds, throughput, lateStarts);
+        out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, result) -> out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, result.getCount(), result.getErrors(), result.getThroughput(),
+                result.getP50Ms(), result.getP99Ms(), result.getP999Ms(), result.getMaxMs()));
+    }
+
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(label + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+}
@@ -0,0 +1,128 @@
+package com.order.management.loadtest;
+
+import lombok.Value;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the next request of the weighted mix and remembers the orders it created, so that
+ * reads and status updates target real orders. Each order is moved CREATED to SHIPPED to
+ * COMPLETED at most once, keeping status updates free of conflicting transitions.
+ */
+class OrderWorkload {
+    private static final int KNOWN_ORDERS = 100_000;
+    private static final int LIST_PAGE_SIZE = 50;
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+
+    /**
+     * A request ready to send, tagged with the endpoint it is reported under.
+     */
+    @Value
+    static class Call {
+        Endpoint endpoint;
+        HttpRequest request;
+        String orderId;
+        String nextStatus;
+    }
+
+    private final String ordersUrl;
+    private final Duration timeout;
+    private final Endpoint[] weighted;
+    private final AtomicReferenceArray<String> knownOrders = new AtomicReferenceArray<>(KNOWN_ORDERS);
+    private final AtomicLong created = new AtomicLong();
+    private final Queue<String> awaitingShipment = new ConcurrentLinkedQueue<>();
+    private final Queue<String> awaitingCompletion = new ConcurrentLinkedQueue<>();
+
+    OrderWorkload(String baseUrl, Duration timeout, Map<Endpoint, Integer> mix) {
+        this.ordersUrl = baseUrl + "/api/v1/orders";
+        this.timeout = timeout;
+        this.weighted = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+    }
+
+    Call next() {
+        Endpoint endpoint = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+        return switch (endpoint) {
+            case CREATE -> create();
+            case GET -> get();
+            case LIST -> list();
+            case STATUS_UPDATE -> updateStatus();
+        };
+    }
+
+    /**
+     * Feeds created orders and successful status updates back into the pools.
+     */
+    void onResponse(Call call, HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            return;
+        }
+        if (call.getEndpoint() == Endpoint.CREATE) {
+            Matcher matcher = ORDER_ID.matcher(response.body());
+            if (matcher.find()) {
+                String orderId = matcher.group(1);
+                knownOrders.set((int) (created.getAndIncrement() % KNOWN_ORDERS), orderId);
+                awaitingShipment.offer(orderId);
+            }
+        } else if (call.getEndpoint() == Endpoint.STATUS_UPDATE && "SHIPPED".equals(call.getNextStatus())) {
+            awaitingCompletion.offer(call.getOrderId());
+        }
+    }
+
+    private Call create() {
+        int customer = ThreadLocalRandom.current().nextInt(10_000);
+        String body = String.format("{\"customerName\":\"Customer %d\",\"customerEmail\":\"customer%d@example.com\","
+                        + "\"mobileNumber\":\"%d\",\"totalAmount\":%d.99,\"notificationType\":\"EMAIL\"}",
+                customer, customer, 9_000_000_000L + customer, 10 + customer % 500);
+        return new Call(Endpoint.CREATE, builder(ordersUrl)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), null, null);
+    }
+
+    private Call get() {
+        long count = Math.min(created.get(), KNOWN_ORDERS);
+        String orderId = count == 0 ? null : knownOrders.get(ThreadLocalRandom.current().nextInt((int) count));
+        if (orderId == null) {
+            return create();
+        }
+        return new Call(Endpoint.GET, builder(ordersUrl + "/" + orderId).GET().build(), orderId, null);
+    }
+
+    private Call list() {
+        return new Call(Endpoint.LIST, builder(ordersUrl + "?limit=" + LIST_PAGE_SIZE).GET().build(), null, null);
+    }
+
+    private Call updateStatus() {
+        String nextStatus = "COMPLETED";
+        String orderId = ThreadLocalRandom.current().nextBoolean() ? awaitingCompletion.poll() : null;
+        if (orderId == null) {
+            nextStatus = "SHIPPED";
+            orderId = awaitingShipment.poll();
+        }
+        if (orderId == null) {
+            return create();
+        }
+        return new Call(Endpoint.STATUS_UPDATE, builder(ordersUrl + "/" + orderId + "/status")
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"" + nextStatus + "\"}"))
+                .build(), orderId, nextStatus);
+    }
+
+    private HttpRequest.Builder builder(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(timeout);
+    }
+}
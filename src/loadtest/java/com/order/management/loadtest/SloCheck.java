@@ -0,0 +1,31 @@
+package com.order.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+
+/**
+ * Fails the build when a load test report lists SLO breaches. Runs as its own step so that a
+ * breach does not keep the Maven lifecycle from stopping the app under test.
+ * Usage: {@code SloCheck <report.json>}; exits with status 1 on a breach.
+ */
+public final class SloCheck {
+
+    private SloCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SloCheck <report.json>");
+        }
+        JsonNode breaches = new ObjectMapper().readTree(Path.of(args[0]).toFile()).path("breaches");
+        if (breaches.isEmpty()) {
+            System.out.println("Load test SLO met");
+            return;
+        }
+        System.out.println("Load test SLO breached:");
+        breaches.forEach(breach -> System.out.println("  " + breach.asText()));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.order.management.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency and error-rate limits a run must meet. Parsed from comma-separated
+ * {@code metric=limit} pairs: {@code p50}, {@code p99}, {@code p99.9} and {@code max} in
+ * milliseconds, {@code error-rate} as a fraction. A pair prefixed with an endpoint key, such as
+ * {@code list.p99=400}, overrides the limit for that endpoint only.
+ */
+public final class SloPolicy {
+
+    public enum Metric {
+        P50("p50"),
+        P99("p99"),
+        P999("p99.9"),
+        MAX("max"),
+        ERROR_RATE("error-rate");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        static Metric fromKey(String key) {
+            for (Metric metric : values()) {
+                if (metric.key.equals(key)) {
+                    return metric;
+                }
+            }
+            throw new IllegalArgumentException("Unknown SLO metric '" + key + "', expected p50, p99, p99.9, max or error-rate");
+        }
+    }
+
+    private final Map<Metric, Double> limits;
+    private final Map<Endpoint, Map<Metric, Double>> endpointLimits;
+
+    private SloPolicy(Map<Metric, Double> limits, Map<Endpoint, Map<Metric, Double>> endpointLimits) {
+        this.limits = limits;
+        this.endpointLimits = endpointLimits;
+    }
+
+    public static SloPolicy parse(String spec) {
+        Map<Metric, Double> limits = new EnumMap<>(Metric.class);
+        Map<Endpoint, Map<Metric, Double>> endpointLimits = new EnumMap<>(Endpoint.class);
+        if (spec == null || spec.isBlank()) {
+            return new SloPolicy(limits, endpointLimits);
+        }
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid SLO entry '" + entry + "', expected [endpoint.]metric=limit");
+            }
+            String key = pair[0].trim();
+            double limit = Double.parseDouble(pair[1].trim());
+            Map<Metric, Double> target = limits;
+            int dot = key.indexOf('.');
+            // "p99.9" is a metric, "list.p99" is an endpoint override
+            if (dot > 0 && !Character.isDigit(key.charAt(dot + 1))) {
+                target = endpointLimits.computeIfAbsent(Endpoint.fromKey(key.substring(0, dot)),
+                        endpoint -> new EnumMap<>(Metric.class));
+                key = key.substring(dot + 1);
+            }
+            target.put(Metric.fromKey(key), limit);
+        }
+        return new SloPolicy(limits, endpointLimits);
+    }
+
+    public Map<Metric, Double> limitsFor(Endpoint endpoint) {
+        Map<Metric, Double> effective = new EnumMap<>(Metric.class);
+        effective.putAll(limits);
+        effective.putAll(endpointLimits.getOrDefault(endpoint, Map.of()));
+        return effective;
+    }
+
+    /**
+     * @return one message per limit the endpoint's result exceeds; empty when the SLO is met
+     */
+    public List<String> check(EndpointResult result) {
+        List<String> breaches = new ArrayList<>();
+        for (Map.Entry<Metric, Double> limit : limitsFor(result.getEndpoint()).entrySet()) {
+            double actual = actual(result, limit.getKey());
+            if (actual > limit.getValue()) {
+                breaches.add(String.format("%s %s %.3f > %.3f", result.getEndpoint().getKey(),
+                        limit.getKey().getKey(), actual, limit.getValue()));
+            }
+        }
+        return breaches;
+    }
+
+    private static double actual(EndpointResult result, Metric metric) {
+        return switch (metric) {
+            case P50 -> result.getP50Ms();
+            case P99 -> result.getP99Ms();
+            case P999 -> result.getP999Ms();
+            case MAX -> result.getMaxMs();
+            case ERROR_RATE -> result.getErrorRate();
+        };
+    }
+}
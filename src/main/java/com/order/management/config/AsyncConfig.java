@@ -1,22 +1,71 @@
 package com.order.management.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+@Slf4j
 @Configuration
+@EnableScheduling
 public class AsyncConfig {
 
+    /**
+     * Worker pool for notification sends. The outbox dispatcher never has more than
+     * {@code notification.outbox.parallelism} sends in flight, so the queue only absorbs short bursts.
+     * Should it ever fill, submissions are rejected rather than run on the submitting thread, which is often
+     * the single linger or retry scheduler: the batch accumulator fails the batch so the outbox reschedules
+     * its rows, and the retry decorator counts the rejection as a failed attempt.
+     * <p>
+     * In {@link ExecutionMode#VIRTUAL} mode every send gets its own virtual thread instead, and the
+     * per-channel concurrency limits in the notification strategy chain protect the providers.
+     * <p>
+     * The platform pool's queue depth and thread counts are published by Spring Boot as the
+     * {@code executor.*} metrics tagged {@code name=notificationExecutor}.
+     */
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
+    public Executor notificationExecutor(@Value("${order.execution.mode:platform}") ExecutionMode mode,
+                                         @Value("${notification.executor.core-pool-size:5}") int corePoolSize,
+                                         @Value("${notification.executor.max-pool-size:10}") int maxPoolSize,
+                                         @Value("${notification.executor.queue-capacity:50}") int queueCapacity) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            Executor virtual = VirtualThreads.newPerTaskExecutor().map(TaskExecutorAdapter::new).orElse(null);
+            if (virtual != null) {
+                log.info("Notification sends run on virtual threads");
+                return virtual;
+            }
+            log.warn("Falling back to the platform notification pool");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("Notification-Async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Serves Tomcat requests on virtual threads instead of the fixed worker pool.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "order.execution.mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadRequestExecutor() {
+        return protocolHandler -> VirtualThreads.newPerTaskExecutor().ifPresentOrElse(
+                executor -> {
+                    log.info("Web requests run on virtual threads");
+                    protocolHandler.setExecutor(executor);
+                },
+                () -> log.warn("Falling back to the platform Tomcat worker pool"));
+    }
 }
@@ -0,0 +1,9 @@
+package com.order.management.config;
+
+/**
+ * Threading model for web requests and notification sends, selected by {@code order.execution.mode}.
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL
+}
@@ -0,0 +1,25 @@
+package com.order.management.config;
+
+import com.order.management.service.OrderStateMachine;
+import com.order.management.service.OrderTransitionGuard;
+import com.order.management.service.OrderTransitionHook;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderStateMachineConfig {
+
+    /**
+     * The standard order lifecycle, with every {@link OrderTransitionGuard} and {@link OrderTransitionHook}
+     * bean bound to the transitions it applies to.
+     */
+    @Bean
+    public OrderStateMachine orderStateMachine(ObjectProvider<OrderTransitionGuard> guards,
+                                               ObjectProvider<OrderTransitionHook> hooks) {
+        return OrderStateMachine.standardTransitions()
+                .guards(guards.orderedStream().toList())
+                .hooks(hooks.orderedStream().toList())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.order.management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one summary line per request instead of relying on per-step INFO logging, and only for a sample:
+ * {@code order.logging.request-sample-rate} of all requests, plus every server error and every request slower
+ * than {@code order.logging.slow-request-ms}. Uses its own logger so it can stay at INFO while the rest of
+ * the application is turned down.
+ */
+@Component
+public class RequestLogFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger("com.order.management.requests");
+
+    private final double sampleRate;
+    private final long slowRequestNanos;
+
+    public RequestLogFilter(@Value("${order.logging.request-sample-rate:0.01}") double sampleRate,
+                            @Value("${order.logging.slow-request-ms:500}") long slowRequestMs) {
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = slowRequestMs * 1_000_000;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Streaming responses (SSE) outlive this call; their duration here would mean nothing
+            if (!request.isAsyncStarted() && log.isInfoEnabled()) {
+                long elapsed = System.nanoTime() - start;
+                int status = response.getStatus();
+                if (status >= 500 || elapsed >= slowRequestNanos || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                    log.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status,
+                            elapsed / 1_000_000);
+                }
+            }
+        }
+    }
+}
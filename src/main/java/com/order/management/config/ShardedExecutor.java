@@ -0,0 +1,144 @@
+package com.order.management.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs tasks on a fixed set of lanes, each drained by its own thread. A task's key (an order id) always
+ * hashes to the same lane, so tasks for one key run strictly one after another in submission order while
+ * different keys spread across lanes and run in parallel.
+ * <p>
+ * Each lane is a lock-free multi-producer queue with a single consumer; producers never block. The
+ * consumer parks when its lane is empty and is woken by the next producer. Lanes are bounded, and a task
+ * that does not fit is rejected rather than queued, as is a task offered once shutdown has begun; every
+ * accepted task runs.
+ */
+@Slf4j
+public class ShardedExecutor {
+    private final Lane[] lanes;
+
+    public ShardedExecutor(String name, int laneCount, int laneCapacity) {
+        if (laneCount < 1 || laneCapacity < 1) {
+            throw new IllegalArgumentException("laneCount and laneCapacity must be positive");
+        }
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(name + "-" + i, laneCapacity);
+        }
+    }
+
+    /**
+     * @return false when the key's lane is full or the executor has been shut down
+     */
+    public boolean execute(Object key, Runnable task) {
+        return lanes[Math.floorMod(key.hashCode(), lanes.length)].offer(task);
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @return tasks queued across all lanes, not counting the ones currently running
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) {
+            depth += lane.size.get();
+        }
+        return depth;
+    }
+
+    /**
+     * Stops accepting tasks and waits up to {@code timeoutMs} for the queued ones to finish.
+     *
+     * @return true when every lane drained in time
+     */
+    public boolean shutdown(long timeoutMs) throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.shutdown = true;
+            LockSupport.unpark(lane.consumer);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        boolean drained = true;
+        for (Lane lane : lanes) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            lane.consumer.join(Math.max(1, remainingMs));
+            drained &= !lane.consumer.isAlive();
+        }
+        return drained;
+    }
+
+    private static final class Lane implements Runnable {
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int capacity;
+        private final Thread consumer;
+        private volatile boolean waiting;
+        private volatile boolean shutdown;
+
+        private Lane(String name, int capacity) {
+            this.capacity = capacity;
+            this.consumer = new Thread(this, name);
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+
+        private boolean offer(Runnable task) {
+            if (shutdown) {
+                return false;
+            }
+            // Reserve a slot first so concurrent producers cannot overshoot the bound
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(task);
+            // Shutdown may have begun after the check above, and the consumer may already have made its final
+            // pass; take the task back unless the consumer got to it first
+            if (shutdown && queue.remove(task)) {
+                size.decrementAndGet();
+                return false;
+            }
+            // Pairs with the consumer's waiting/peek check: either it sees the task or we see it waiting
+            if (waiting) {
+                LockSupport.unpark(consumer);
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    if (shutdown) {
+                        // One more pass after seeing the flag: a producer that enqueued before it was set
+                        // does not take its task back
+                        if (queue.isEmpty()) {
+                            return;
+                        }
+                        continue;
+                    }
+                    waiting = true;
+                    if (queue.peek() == null && !shutdown) {
+                        LockSupport.park(this);
+                    }
+                    waiting = false;
+                    continue;
+                }
+                size.decrementAndGet();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Task on lane {} failed", consumer.getName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.order.management.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to Java 21 virtual threads while the project still compiles for Java 17.
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return a thread-per-task executor backed by virtual threads, or empty when the running JVM has none
+     */
+    public static Optional<ExecutorService> newPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (NoSuchMethodException e) {
+            log.warn("Virtual threads need Java 21+, running on {}", Runtime.version());
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            log.warn("Could not create a virtual thread executor", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.order.management.controller;
+
+import com.order.management.dto.NotificationChannelHealth;
+import com.order.management.model.NotificationType;
+import com.order.management.notification.NotificationChannelProperties;
+import com.order.management.notification.NotificationStrategyFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runtime view and reconfiguration of the per-channel notification chains.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/notification-channels")
+@RequiredArgsConstructor
+public class NotificationChannelController {
+    private final NotificationStrategyFactory notificationStrategyFactory;
+
+    @GetMapping
+    public ResponseEntity<Map<NotificationType, NotificationChannelProperties.ChannelSettings>> getChannels() {
+        return ResponseEntity.ok(notificationStrategyFactory.getSettings());
+    }
+
+    /**
+     * Circuit breaker state and adaptive concurrency limit of channels using the CIRCUIT_BREAKER decorator.
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<NotificationType, NotificationChannelHealth>> getChannelHealth() {
+        Map<NotificationType, NotificationChannelHealth> health = new EnumMap<>(NotificationType.class);
+        notificationStrategyFactory.getCircuitBreakers().forEach((type, guard) -> health.put(type,
+                NotificationChannelHealth.builder()
+                        .circuitState(guard.getCircuitBreaker().getState())
+                        .concurrencyLimit(guard.getConcurrencyLimit().getLimit())
+                        .inFlight(guard.getConcurrencyLimit().getInFlight())
+                        .build()));
+        return ResponseEntity.ok(health);
+    }
+
+    @PutMapping
+    public ResponseEntity<Map<NotificationType, NotificationChannelProperties.ChannelSettings>> reloadChannels(
+            @RequestBody Map<NotificationType, NotificationChannelProperties.ChannelSettings> channels) {
+        log.info("PUT /api/v1/admin/notification-channels - Reloading channels {}", channels.keySet());
+        notificationStrategyFactory.reload(channels);
+        return ResponseEntity.ok(notificationStrategyFactory.getSettings());
+    }
+}
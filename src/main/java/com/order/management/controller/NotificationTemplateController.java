@@ -0,0 +1,28 @@
+package com.order.management.controller;
+
+import com.order.management.dto.NotificationTemplatesInfo;
+import com.order.management.notification.NotificationTemplateEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Forces a reload of the notification message templates instead of waiting for the periodic check.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/notification-templates")
+@RequiredArgsConstructor
+public class NotificationTemplateController {
+    private final NotificationTemplateEngine templateEngine;
+
+    @PostMapping("/reload")
+    public ResponseEntity<NotificationTemplatesInfo> reloadTemplates() {
+        log.info("POST /api/v1/admin/notification-templates/reload - Reloading notification templates");
+        return ResponseEntity.ok(NotificationTemplatesInfo.builder()
+                .locales(templateEngine.reload())
+                .loadedAt(templateEngine.getLoadedAt())
+                .build());
+    }
+}
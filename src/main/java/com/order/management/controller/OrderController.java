@@ -1,35 +1,127 @@
 package com.order.management.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order.management.dto.AllowedStatusesResponse;
+import com.order.management.dto.BatchOrderResponse;
+import com.order.management.dto.BulkStatusUpdateRequest;
 import com.order.management.dto.CreateOrderRequest;
+import com.order.management.dto.OrderPageResponse;
 import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderSearchCriteria;
+import com.order.management.dto.OrderStatsResponse;
 import com.order.management.dto.UpdateOrderStatusRequest;
+import com.order.management.model.OrderStatus;
+import com.order.management.service.OrderBatchService;
+import com.order.management.service.OrderBulkStatusService;
+import com.order.management.service.OrderEventStream;
 import com.order.management.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/orders")
 @RequiredArgsConstructor
 public class OrderController {
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final OrderService orderService;
+    private final OrderBatchService orderBatchService;
+    private final OrderBulkStatusService orderBulkStatusService;
+    private final OrderEventStream orderEventStream;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        log.info("Log4j2 config location = " +
-                System.getProperty("log4j.configurationFile") +"log name "+log.getName());
-
         log.info("POST /api/v1/orders - Creating new order for customer: {}", request.getCustomerName());
         OrderResponse response = orderService.createOrder(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        log.info("POST /api/v1/orders/batch - Creating {} orders", requests.size());
+        BatchOrderResponse response = orderBatchService.createOrders(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<OrderPageResponse> searchOrders(
+            @RequestParam(required = false) String customerEmail,
+            @RequestParam(required = false) String mobileNumber,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/orders/search - Searching orders");
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder()
+                .customerEmail(customerEmail)
+                .mobileNumber(mobileNumber)
+                .status(status)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        return ResponseEntity.ok(orderService.searchOrders(criteria, cursor, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsResponse> getOrderStats(@RequestParam(required = false) Integer days) {
+        log.info("GET /api/v1/orders/stats - Retrieving order statistics");
+        return ResponseEntity.ok(orderService.getOrderStats(days));
+    }
+
+    /**
+     * Server-Sent Events stream of status changes, optionally narrowed to some orders and/or statuses.
+     * Reconnecting clients send {@code Last-Event-ID} to receive the changes they missed.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(
+            @RequestParam(name = "orderId", required = false) Set<UUID> orderIds,
+            @RequestParam(name = "status", required = false) Set<OrderStatus> statuses,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("GET /api/v1/orders/events - Subscribing to status changes");
+        return orderEventStream.subscribe(orderIds == null ? Set.of() : orderIds,
+                statuses == null ? Set.of() : statuses, lastEventId);
+    }
+
+    @GetMapping(value = "/{orderId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(@PathVariable String orderId,
+                                        @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("GET /api/v1/orders/{}/events - Subscribing to status changes", orderId);
+        // Rejects unknown and malformed ids the same way as a plain order lookup
+        OrderResponse order = orderService.getOrder(orderId);
+        return orderEventStream.subscribe(Set.of(UUID.fromString(order.getId())), Set.of(), lastEventId);
+    }
+
+    @GetMapping("/status-transitions")
+    public ResponseEntity<Map<OrderStatus, Set<OrderStatus>>> getStatusTransitions() {
+        return ResponseEntity.ok(orderService.getStatusTransitions());
+    }
+
+    @GetMapping("/{orderId}/allowed-statuses")
+    public ResponseEntity<AllowedStatusesResponse> getAllowedStatuses(@PathVariable String orderId) {
+        log.info("GET /api/v1/orders/{}/allowed-statuses - Retrieving allowed next statuses", orderId);
+        return ResponseEntity.ok(orderService.getAllowedStatuses(orderId));
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
         log.info("GET /api/v1/orders/{} - Retrieving order", orderId);
@@ -38,12 +130,39 @@ public class OrderController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        log.info("GET /api/v1/orders - Retrieving all orders");
-        List<OrderResponse> response = orderService.getAllOrders();
+    public ResponseEntity<OrderPageResponse> getOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/orders - Retrieving orders page");
+        OrderPageResponse response = orderService.getOrders(cursor, limit);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders() {
+        log.info("GET /api/v1/orders/stream - Streaming all orders");
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                int[] written = {0};
+                orderService.streamAllOrders(order -> {
+                    try {
+                        generator.writeObject(order);
+                        generator.writeRaw('\n');
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PutMapping("/{orderId}/status")
     public ResponseEntity<OrderResponse> updateOrderStatus(
             @PathVariable String orderId,
@@ -53,5 +172,12 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/status")
+    public ResponseEntity<BatchOrderResponse> updateOrderStatuses(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        log.info("PUT /api/v1/orders/status - Moving {} orders to {}", request.getOrderIds().size(), request.getStatus());
+        BatchOrderResponse response = orderBulkStatusService.updateStatuses(request);
+        return ResponseEntity.ok(response);
+    }
+
 
 }
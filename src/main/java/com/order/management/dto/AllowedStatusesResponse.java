@@ -0,0 +1,19 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AllowedStatusesResponse {
+    private String orderId;
+    private OrderStatus status;
+    private Set<OrderStatus> allowedStatuses;
+}
@@ -0,0 +1,18 @@
+package com.order.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResult {
+    private int index;
+    private String orderId;
+    private boolean success;
+    private OrderResponse order;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.order.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOrderResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+}
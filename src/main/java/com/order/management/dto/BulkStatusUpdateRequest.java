@@ -0,0 +1,23 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateRequest {
+    @NotEmpty(message = "Order ids are required")
+    private List<String> orderIds;
+
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+}
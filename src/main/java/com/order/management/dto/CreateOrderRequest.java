@@ -33,4 +33,7 @@ public class CreateOrderRequest {
     @NotNull(message = "Notification type is required")
     private NotificationType notificationType;
 
+    @Pattern(regexp = "^[A-Za-z]{2,8}([-_][A-Za-z0-9]{1,8})*$", message = "Locale must be a language tag such as en or fr-CA")
+    private String locale;
+
 }
@@ -0,0 +1,17 @@
+package com.order.management.dto;
+
+import com.order.management.notification.CircuitBreaker;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationChannelHealth {
+    private CircuitBreaker.State circuitState;
+    private int concurrencyLimit;
+    private int inFlight;
+}
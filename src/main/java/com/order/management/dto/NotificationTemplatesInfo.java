@@ -0,0 +1,18 @@
+package com.order.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationTemplatesInfo {
+    private List<String> locales;
+    private Instant loadedAt;
+}
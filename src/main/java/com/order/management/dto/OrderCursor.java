@@ -0,0 +1,41 @@
+package com.order.management.dto;
+
+import com.order.management.exception.InvalidOrderQueryException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position for order listings: the (createdAt, id) of the last row of a page.
+ */
+@Data
+@AllArgsConstructor
+public class OrderCursor {
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidOrderQueryException("Invalid page cursor: " + cursor);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidOrderQueryException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
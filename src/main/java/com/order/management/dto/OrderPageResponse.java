@@ -0,0 +1,18 @@
+package com.order.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResponse {
+    private List<OrderResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
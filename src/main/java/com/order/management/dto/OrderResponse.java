@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -22,4 +23,12 @@ public class OrderResponse {
     private OrderStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Constructor expression target for queries that select order columns directly.
+     */
+    public OrderResponse(UUID id, String customerName, String customerEmail, String mobileNumber,
+                         BigDecimal totalAmount, OrderStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id.toString(), customerName, customerEmail, mobileNumber, totalAmount, status, createdAt, updatedAt);
+    }
 }
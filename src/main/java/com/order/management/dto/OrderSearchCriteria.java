@@ -0,0 +1,24 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for order search; null fields are not applied. The created-at range is [createdFrom, createdTo).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSearchCriteria {
+    private String customerEmail;
+    private String mobileNumber;
+    private OrderStatus status;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,35 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatsResponse {
+    private long totalOrders;
+    private BigDecimal totalRevenue;
+    private Map<OrderStatus, Bucket> byStatus;
+    /**
+     * Orders created per day, most recent days only.
+     */
+    private Map<LocalDate, Bucket> byDay;
+    private LocalDateTime reconciledAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private long count;
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,20 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One group of the order statistics aggregate: orders in a status created on a given day.
+ */
+@Data
+@AllArgsConstructor
+public class OrderStatsRow {
+    private OrderStatus status;
+    private LocalDate day;
+    private Long count;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,25 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status change pushed to event stream subscribers. {@code eventId} increases across all orders and is
+ * what clients send back as {@code Last-Event-ID} to resume.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusEvent {
+    private long eventId;
+    private String orderId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime updatedAt;
+}
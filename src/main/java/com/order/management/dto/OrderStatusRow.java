@@ -0,0 +1,17 @@
+package com.order.management.dto;
+
+import com.order.management.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * An order's status as read by one query, without loading the entity.
+ */
+@Data
+@AllArgsConstructor
+public class OrderStatusRow {
+    private UUID id;
+    private OrderStatus status;
+}
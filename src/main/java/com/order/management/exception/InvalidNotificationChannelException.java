@@ -0,0 +1,7 @@
+package com.order.management.exception;
+
+public class InvalidNotificationChannelException extends RuntimeException {
+    public InvalidNotificationChannelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.order.management.exception;
+
+public class InvalidOrderBatchException extends RuntimeException {
+    public InvalidOrderBatchException(String message) {
+        super(message);
+    }
+
+    public InvalidOrderBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.order.management.exception;
+
+public class InvalidOrderQueryException extends RuntimeException {
+    public InvalidOrderQueryException(String message) {
+        super(message);
+    }
+
+    public InvalidOrderQueryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.order.management.exception;
+
+public class OrderConflictException extends RuntimeException {
+    public OrderConflictException(String message) {
+        super(message);
+    }
+
+    public OrderConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,59 @@
+package com.order.management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A notification that could not be delivered within its retry attempts.
+ */
+@Entity
+@Table(name = "notification_dead_letters", indexes = {
+        @Index(name = "idx_dead_letters_order_id", columnList = "orderId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationDeadLetter {
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    @Column(length = 2000)
+    private String message;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void ensureId() {
+        if (this.id == null) {
+            this.id = OrderIdGenerator.next();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = Order.now();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.order.management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A pending customer notification, written in the same transaction as the order change that caused it
+ * and deleted once the dispatcher has delivered it.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_next_attempt_at", columnList = "nextAttemptAt, id"),
+        @Index(name = "idx_outbox_order_id", columnList = "orderId, id"),
+        @Index(name = "idx_outbox_claimed_by", columnList = "claimedBy")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutboxEntry {
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private NotificationType notificationType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * Dispatch batch that claimed this entry for sending. While it is set, {@code nextAttemptAt} is the end of
+     * that batch's lease; once the lease has run out another dispatcher may claim the entry again.
+     */
+    private UUID claimedBy;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public NotificationOutboxEntry(UUID orderId, NotificationType notificationType, OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.notificationType = notificationType;
+        this.orderStatus = orderStatus;
+        this.attempts = 0;
+        this.createdAt = Order.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    @PrePersist
+    public void ensureId() {
+        if (this.id == null) {
+            this.id = OrderIdGenerator.next();
+        }
+    }
+}
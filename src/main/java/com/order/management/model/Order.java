@@ -1,25 +1,38 @@
 package com.order.management.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_orders_status_created_at", columnList = "status, createdAt, id"),
+        @Index(name = "idx_orders_email_created_at", columnList = "customerEmail, createdAt, id"),
+        @Index(name = "idx_orders_mobile_created_at", columnList = "mobileNumber, createdAt, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Order {
+public class Order implements Persistable<UUID> {
     @Id
-    @Column(nullable = false, length = 36)
-    private String id;
+    @Column(nullable = false, updatable = false)
+    private UUID id;
     
     @Column(nullable = false)
     private String customerName;
@@ -39,6 +52,12 @@ public class Order {
 
     @Enumerated(EnumType.STRING)
     private NotificationType preferredNotificationType;
+
+    /**
+     * IETF language tag notifications are rendered in, e.g. {@code fr-CA}; null means the default templates.
+     */
+    @Column(length = 35)
+    private String preferredLocale;
     
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -46,6 +65,24 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock: bumped on every update, including the compare-and-set status update.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Lets Spring Data persist new orders directly, even when the id is already assigned,
+     * instead of merging them with a SELECT per row.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
     public Order(String customerName, String customerEmail, String mobileNumber, BigDecimal totalAmount, NotificationType type) {
         this.customerName = customerName;
         this.customerEmail = customerEmail;
@@ -53,24 +90,52 @@ public class Order {
         this.totalAmount = totalAmount;
         this.status = OrderStatus.CREATED;
         this.preferredNotificationType = type;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.newEntity = true;
+        this.createdAt = now();
+        this.updatedAt = now();
+    }
+
+    /**
+     * Stores the locale as a normalized language tag, so {@code fr_ca} becomes {@code fr-CA}.
+     */
+    public void setPreferredLocale(String locale) {
+        this.preferredLocale = locale == null || locale.isBlank() ? null
+                : Locale.forLanguageTag(locale.replace('_', '-')).toLanguageTag();
     }
 
     @PrePersist
     public void ensureId() {
-        if (this.id == null || this.id.isEmpty()) {
-            this.id = UUID.randomUUID().toString();
+        if (this.id == null) {
+            this.id = OrderIdGenerator.next();
         }
         if (this.createdAt == null) {
-            this.createdAt = LocalDateTime.now();
+            this.createdAt = now();
         }
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now();
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
     }
 
     @PreUpdate
     public void touchUpdatedAt() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now();
+    }
+
+    /**
+     * Timestamps are kept at the database's microsecond precision so that keyset cursors built
+     * from in-memory entities compare exactly against stored rows.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
 }
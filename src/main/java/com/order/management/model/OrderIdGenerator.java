@@ -0,0 +1,39 @@
+package com.order.management.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562).
+ * <p>
+ * The 48-bit millisecond timestamp and a 12-bit sequence are packed into one {@link AtomicLong}, so ids are
+ * strictly increasing across threads and consecutive inserts land next to each other in the primary-key index.
+ * The remaining 62 bits come from {@link ThreadLocalRandom}, which keeps generation lock-free and allocates only
+ * the returned {@link UUID}.
+ */
+public final class OrderIdGenerator {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private static final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    private OrderIdGenerator() {
+    }
+
+    public static UUID next() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        // Same (or earlier) millisecond: bump the sequence; an overflowing sequence borrows from the next millisecond
+        long state = lastTimestampAndSequence.accumulateAndGet(candidate,
+                (previous, now) -> now > previous ? now : previous + 1);
+
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        long mostSigBits = (timestamp << 16) | VERSION_7 | sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,59 @@
+package com.order.management.notification;
+
+/**
+ * AIMD limit on in-flight sends for one channel. Each call that completes within
+ * {@code latencyThresholdMs} raises the limit by {@code 1 / limit} (about one per limit's worth of calls);
+ * a slow or failed call multiplies it by {@code backoffRatio}. A provider that slows down therefore ends
+ * up holding only a few threads instead of all of them.
+ */
+public class AdaptiveConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdMs * 1_000_000;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire} and adjusts the limit from the call's outcome.
+     */
+    public synchronized void release(long latencyNanos, boolean succeeded) {
+        inFlight--;
+        if (!succeeded || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Releases a slot whose call never reached the provider, leaving the limit unchanged.
+     */
+    public synchronized void cancel() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
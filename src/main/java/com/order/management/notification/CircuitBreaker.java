@@ -0,0 +1,134 @@
+package com.order.management.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for one channel. Opens when the failure rate over the last
+ * {@code windowSize} calls reaches {@code failureRateThreshold}, rejects calls for {@code openDurationMs},
+ * then lets up to {@code halfOpenProbes} trial calls through: all of them succeeding closes the breaker,
+ * any failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(double failureRateThreshold, int windowSize, int minimumCalls, long openDurationMs, int halfOpenProbes) {
+        this(failureRateThreshold, windowSize, minimumCalls, openDurationMs, halfOpenProbes, System::nanoTime);
+    }
+
+    CircuitBreaker(double failureRateThreshold, int windowSize, int minimumCalls, long openDurationMs, int halfOpenProbes,
+                   LongSupplier nanoClock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDurationMs * 1_000_000;
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * @return whether a call may go to the provider; every permitted call must be followed by
+     * {@link #onSuccess} or {@link #onFailure}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return milliseconds until an open breaker lets probes through, 0 when it is not open
+     */
+    public synchronized long getRemainingOpenMs() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long remainingNanos = openDurationNanos - (nanoClock.getAsLong() - openedAt);
+        return remainingNanos > 0 ? TimeUnit.NANOSECONDS.toMillis(remainingNanos + 999_999) : 0;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
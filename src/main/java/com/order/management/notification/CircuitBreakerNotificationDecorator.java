@@ -0,0 +1,111 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Fails sends fast instead of letting an unhealthy provider hold threads. A call is rejected when the
+ * channel's {@link CircuitBreaker} is open or its {@link AdaptiveConcurrencyLimit} is full; otherwise its
+ * outcome and latency feed both. A rejected batch comes back with every envelope failed with a
+ * {@link NotificationRejectedException} carrying the time left in the open window, so the outbox moves those
+ * rows to when the breaker half-opens without spending an attempt; a rejected single send throws it.
+ */
+@Slf4j
+public class CircuitBreakerNotificationDecorator extends NotificationStrategyDecorator {
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    public CircuitBreakerNotificationDecorator(NotificationStrategy delegate,
+                                               CircuitBreaker circuitBreaker,
+                                               AdaptiveConcurrencyLimit concurrencyLimit) {
+        super(delegate);
+        this.circuitBreaker = circuitBreaker;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public void send(Order order, String message) {
+        call(() -> {
+            super.send(order, message);
+            return NotificationBatchResult.success();
+        });
+    }
+
+    /**
+     * A batch is one provider call; it counts as failed only if every envelope failed.
+     */
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        return call(() -> {
+            NotificationBatchResult result = super.sendBatch(envelopes);
+            if (!envelopes.isEmpty() && result.getFailures().size() == envelopes.size()) {
+                throw new BatchFailedException(result);
+            }
+            return result;
+        }, envelopes);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private NotificationBatchResult call(Supplier<NotificationBatchResult> providerCall) {
+        return call(providerCall, null);
+    }
+
+    private NotificationBatchResult call(Supplier<NotificationBatchResult> providerCall, List<NotificationEnvelope> batch) {
+        if (!concurrencyLimit.tryAcquire()) {
+            return reject(batch, "Adaptive concurrency limit reached for channel: " + getType(), 0);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            concurrencyLimit.cancel();
+            return reject(batch, "Circuit breaker open for channel: " + getType(), circuitBreaker.getRemainingOpenMs());
+        }
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            NotificationBatchResult result = providerCall.get();
+            succeeded = true;
+            return result;
+        } catch (BatchFailedException e) {
+            return e.result;
+        } finally {
+            concurrencyLimit.release(System.nanoTime() - start, succeeded);
+            if (succeeded) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    private NotificationBatchResult reject(List<NotificationEnvelope> batch, String reason, long retryAfterMs) {
+        log.debug(reason);
+        NotificationRejectedException error = new NotificationRejectedException(reason, retryAfterMs);
+        if (batch == null) {
+            throw error;
+        }
+        return NotificationBatchResult.of(batch.stream()
+                .map(envelope -> new NotificationBatchResult.Failure(envelope, error))
+                .toList());
+    }
+
+    /**
+     * Carries a fully failed batch result through {@link #call} so it is recorded as a failure.
+     */
+    private static class BatchFailedException extends RuntimeException {
+        private final NotificationBatchResult result;
+
+        BatchFailedException(NotificationBatchResult result) {
+            super(null, null, false, false);
+            this.result = result;
+        }
+    }
+}
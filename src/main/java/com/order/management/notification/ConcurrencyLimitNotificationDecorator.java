@@ -0,0 +1,62 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent sends to one channel's provider. The channel's chain is shared by all
+ * senders, so the limit holds however many threads (virtual or not) are sending.
+ */
+@Slf4j
+public class ConcurrencyLimitNotificationDecorator extends NotificationStrategyDecorator {
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitNotificationDecorator(NotificationStrategy delegate, Semaphore permits, long acquireTimeoutMs) {
+        super(delegate);
+        this.permits = permits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public void send(Order order, String message) {
+        acquire();
+        try {
+            super.send(order, message);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * A batch is one provider call, so it takes a single slot.
+     */
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        acquire();
+        try {
+            return super.sendBatch(envelopes);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a " + getType() + " send slot", e);
+        }
+        if (!acquired) {
+            log.warn("No {} send slot free within {} ms", getType(), acquireTimeoutMs);
+            throw new NotificationRejectedException("Concurrency limit reached for channel: " + getType(), 0);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.order.management.model.Order;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class EmailNotificationStrategy implements NotificationStrategy {
@@ -21,6 +23,19 @@ public class EmailNotificationStrategy implements NotificationStrategy {
         mockEmailServiceCall(order.getCustomerEmail(), message);
     }
 
+    /**
+     * Send all emails in one bulk provider request - TODO: replace mock calls
+     * @param envelopes
+     * @return
+     */
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        log.info("Sending {} email notifications in one bulk request", envelopes.size());
+        // Mock bulk email service call
+        mockBulkEmailServiceCall(envelopes);
+        return NotificationBatchResult.success();
+    }
+
     @Override
     public NotificationType getType() {
         return NotificationType.EMAIL;
@@ -29,4 +44,8 @@ public class EmailNotificationStrategy implements NotificationStrategy {
     private void mockEmailServiceCall(String email, String message) {
         log.info("Mock Email Service: Email sent to {} with content: {}", email, message);
     }
+
+    private void mockBulkEmailServiceCall(List<NotificationEnvelope> envelopes) {
+        log.info("Mock Email Service: {} emails sent in bulk", envelopes.size());
+    }
 }
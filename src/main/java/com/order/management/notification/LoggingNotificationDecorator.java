@@ -3,6 +3,8 @@ package com.order.management.notification;
 import com.order.management.model.Order;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 @Slf4j
 public class LoggingNotificationDecorator extends NotificationStrategyDecorator {
 
@@ -10,24 +12,42 @@ public class LoggingNotificationDecorator extends NotificationStrategyDecorator
         super(delegate);
     }
 
+    /**
+     * One line per notification: at DEBUG when it succeeds, at ERROR when it fails.
+     */
     @Override
     public void send(Order order, String message) {
-        log.info("=== Starting Notification Process ===");
-        log.info("Notification Strategy: {}", super.getClass().getSimpleName());
-        log.info("Order ID: {}", order.getId());
-        log.info("Customer: {}", order.getCustomerName());
-        log.info("Message: {}", message);
-
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         try {
             super.send(order, message);
-            long endTime = System.currentTimeMillis();
-            log.info("Notification completed successfully in {} ms", endTime - startTime);
         } catch (Exception e) {
-            log.error("Notification failed with error: {}", e.getMessage(), e);
+            log.error("{} notification for order {} failed: {}", getType(), order.getId(), e.getMessage(), e);
             throw e;
         }
-        log.info("=== Notification Process Completed ===");
+        if (log.isDebugEnabled()) {
+            log.debug("{} notification for order {} sent in {} ms", getType(), order.getId(),
+                    (System.nanoTime() - startTime) / 1_000_000);
+        }
+    }
+
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        long startTime = System.nanoTime();
+        NotificationBatchResult result;
+        try {
+            result = super.sendBatch(envelopes);
+        } catch (Exception e) {
+            log.error("{} batch of {} notifications failed: {}", getType(), envelopes.size(), e.getMessage(), e);
+            throw e;
+        }
+        if (!result.getFailures().isEmpty()) {
+            log.warn("{} batch in {} ms: {} delivered, {} failed", getType(), (System.nanoTime() - startTime) / 1_000_000,
+                    envelopes.size() - result.getFailures().size(), result.getFailures().size());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} batch of {} delivered in {} ms", getType(), envelopes.size(),
+                    (System.nanoTime() - startTime) / 1_000_000);
+        }
+        return result;
     }
 
 }
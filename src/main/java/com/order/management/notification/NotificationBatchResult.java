@@ -0,0 +1,43 @@
+package com.order.management.notification;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of {@link NotificationStrategy#sendBatch}: the envelopes that were not delivered, each with its error.
+ * Envelopes not listed were delivered.
+ */
+public class NotificationBatchResult {
+    private static final NotificationBatchResult SUCCESS = new NotificationBatchResult(Collections.emptyList());
+
+    private final List<Failure> failures;
+
+    private NotificationBatchResult(List<Failure> failures) {
+        this.failures = failures;
+    }
+
+    public static NotificationBatchResult success() {
+        return SUCCESS;
+    }
+
+    public static NotificationBatchResult of(List<Failure> failures) {
+        return failures.isEmpty() ? SUCCESS : new NotificationBatchResult(Collections.unmodifiableList(new ArrayList<>(failures)));
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    @Value
+    public static class Failure {
+        NotificationEnvelope envelope;
+        RuntimeException error;
+    }
+}
@@ -0,0 +1,131 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-channel notification chain settings, bound from {@code notification.channels.<channel>.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "notification")
+public class NotificationChannelProperties {
+
+    private Map<NotificationType, ChannelSettings> channels = new EnumMap<>(NotificationType.class);
+
+    public ChannelSettings forChannel(NotificationType type) {
+        ChannelSettings settings = channels.get(type);
+        return settings != null ? settings : new ChannelSettings();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ChannelSettings {
+        /**
+         * Decorators wrapped around the channel strategy, outermost first. RETRY is not a default: outbox
+         * sends are retried by the outbox, which keeps the row until delivery.
+         */
+        @Builder.Default
+        private List<NotificationDecoratorType> decorators = new ArrayList<>(List.of(
+                NotificationDecoratorType.CIRCUIT_BREAKER,
+                NotificationDecoratorType.LOGGING,
+                NotificationDecoratorType.CONCURRENCY_LIMIT));
+
+        /**
+         * Total attempts per message, including the first one.
+         */
+        @Builder.Default
+        private int maxRetries = 3;
+
+        /**
+         * Backoff ceiling for the first retry; doubles per attempt up to {@code retryMaxDelayMs}.
+         */
+        @Builder.Default
+        private long retryBaseDelayMs = 200;
+
+        @Builder.Default
+        private long retryMaxDelayMs = 30_000;
+
+        /**
+         * Retry tokens earned per first attempt, i.e. the share of traffic retries may add. Shared by the
+         * RETRY decorator and outbox reschedules of this channel.
+         */
+        @Builder.Default
+        private double retryBudgetRatio = 0.2;
+
+        @Builder.Default
+        private double retryBudgetMaxTokens = 100;
+
+        @Builder.Default
+        private int maxConcurrency = 50;
+
+        /**
+         * How long a send may wait for a concurrency or rate-limit slot.
+         */
+        @Builder.Default
+        private long acquireTimeoutMs = 5000;
+
+        /**
+         * Upper bound for one provider call when the TIMEOUT decorator is enabled.
+         */
+        @Builder.Default
+        private long timeoutMs = 10_000;
+
+        /**
+         * Provider calls per second allowed when the RATE_LIMIT decorator is enabled.
+         */
+        @Builder.Default
+        private double rateLimitPerSecond = 100;
+
+        /**
+         * Share of failed calls in the breaker window that opens the CIRCUIT_BREAKER.
+         */
+        @Builder.Default
+        private double circuitFailureRateThreshold = 0.5;
+
+        @Builder.Default
+        private int circuitWindowSize = 20;
+
+        /**
+         * Calls recorded before the failure rate is evaluated.
+         */
+        @Builder.Default
+        private int circuitMinimumCalls = 10;
+
+        @Builder.Default
+        private long circuitOpenDurationMs = 10_000;
+
+        /**
+         * Trial calls let through while half-open; all must succeed to close the breaker.
+         */
+        @Builder.Default
+        private int circuitHalfOpenProbes = 3;
+
+        /**
+         * Starting in-flight limit of the CIRCUIT_BREAKER's adaptive limiter, which stays within [1, maxConcurrency].
+         */
+        @Builder.Default
+        private int adaptiveInitialLimit = 20;
+
+        /**
+         * Calls slower than this shrink the adaptive limit.
+         */
+        @Builder.Default
+        private long adaptiveLatencyThresholdMs = 1000;
+
+        @Builder.Default
+        private double adaptiveBackoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,16 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+
+/**
+ * Keeps notifications that ran out of retries so they can be inspected and replayed.
+ */
+public interface NotificationDeadLetterStore {
+    /**
+     * @param message rendered message, if one was built
+     * @param status order status the notification was about, if known
+     */
+    void record(Order order, NotificationType type, OrderStatus status, String message, int attempts, Throwable lastError);
+}
@@ -0,0 +1,13 @@
+package com.order.management.notification;
+
+/**
+ * Decorators that can be listed in {@code notification.channels.<channel>.decorators}, outermost first.
+ */
+public enum NotificationDecoratorType {
+    LOGGING,
+    RETRY,
+    CONCURRENCY_LIMIT,
+    TIMEOUT,
+    RATE_LIMIT,
+    CIRCUIT_BREAKER
+}
@@ -0,0 +1,13 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import lombok.Value;
+
+/**
+ * One rendered message addressed to one order's customer, as handed to {@link NotificationStrategy#sendBatch}.
+ */
+@Value
+public class NotificationEnvelope {
+    Order order;
+    String message;
+}
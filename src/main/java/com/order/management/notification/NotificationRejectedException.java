@@ -0,0 +1,22 @@
+package com.order.management.notification;
+
+/**
+ * A send refused by the channel's own guards before it reached the provider: an open circuit breaker, a full
+ * concurrency limit or an exhausted rate limit. Nothing was attempted, so the outbox reschedules the row to
+ * {@link #getRetryAfterMs} from now without counting an attempt.
+ */
+public class NotificationRejectedException extends IllegalStateException {
+    private final long retryAfterMs;
+
+    public NotificationRejectedException(String message, long retryAfterMs) {
+        super(message);
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    /**
+     * @return how long until the guard can be expected to let the send through, 0 if unknown
+     */
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
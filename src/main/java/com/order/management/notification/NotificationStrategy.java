@@ -3,7 +3,26 @@ package com.order.management.notification;
 import com.order.management.model.NotificationType;
 import com.order.management.model.Order;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface NotificationStrategy {
     void send(Order order, String message);
     NotificationType getType();
+
+    /**
+     * Sends several messages on this channel. Providers with a bulk API should override this with a single
+     * call; the default sends one by one. Failures are reported per envelope rather than thrown.
+     */
+    default NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        List<NotificationBatchResult.Failure> failures = new ArrayList<>();
+        for (NotificationEnvelope envelope : envelopes) {
+            try {
+                send(envelope.getOrder(), envelope.getMessage());
+            } catch (RuntimeException e) {
+                failures.add(new NotificationBatchResult.Failure(envelope, e));
+            }
+        }
+        return NotificationBatchResult.of(failures);
+    }
 }
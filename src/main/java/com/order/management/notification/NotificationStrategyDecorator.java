@@ -3,6 +3,8 @@ package com.order.management.notification;
 import com.order.management.model.NotificationType;
 import com.order.management.model.Order;
 
+import java.util.List;
+
 public abstract class NotificationStrategyDecorator implements NotificationStrategy {
 
     protected final NotificationStrategy delegate;
@@ -16,6 +18,11 @@ public abstract class NotificationStrategyDecorator implements NotificationStrat
         delegate.send(order, message);
     }
 
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        return delegate.sendBatch(envelopes);
+    }
+
     @Override
     public NotificationType getType(){
         return delegate.getType();
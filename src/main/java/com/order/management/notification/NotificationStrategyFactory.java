@@ -1,33 +1,251 @@
 package com.order.management.notification;
 
+import com.order.management.exception.InvalidNotificationChannelException;
 import com.order.management.model.NotificationType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToDoubleFunction;
 
+/**
+ * Hands out one pre-built, immutable decorator chain per channel. Chains are assembled from
+ * {@link NotificationChannelProperties} at startup and whenever {@link #reload} is called, then swapped
+ * in atomically, so {@link #getStrategy} is a single map lookup with no allocation. Channels using the
+ * CIRCUIT_BREAKER decorator publish {@code notification.circuit.state} (0 closed, 1 open, 2 half-open),
+ * {@code notification.concurrency.limit} and {@code notification.concurrency.in-flight} gauges.
+ * <p>
+ * Each channel also has one {@link RetryBudget}, shared by its RETRY decorator and the notification outbox,
+ * so retries of both kinds together stay within the channel's {@code retryBudgetRatio}.
+ */
+@Slf4j
 @Component
-public class NotificationStrategyFactory {
+public class NotificationStrategyFactory implements DisposableBean {
 
-    private final Map<NotificationType, NotificationStrategy> strategiesMap = new HashMap<>();;
+    private final Map<NotificationType, NotificationStrategy> strategiesMap = new EnumMap<>(NotificationType.class);
+    private final ExecutorService timeoutExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Notification-Timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Notification-Retry-Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor retryWorkers;
+    private final NotificationDeadLetterStore deadLetterStore;
+    private volatile Map<NotificationType, NotificationChannelProperties.ChannelSettings> settings;
+    private volatile Map<NotificationType, NotificationStrategy> chains;
+    private volatile Map<NotificationType, CircuitBreakerNotificationDecorator> circuitBreakers;
+    private volatile Map<NotificationType, RetryBudget> retryBudgets;
+    private final Map<NotificationType, TimedNotificationDecorator.Timers> providerTimers = new EnumMap<>(NotificationType.class);
 
     @Autowired
-    public NotificationStrategyFactory(List<NotificationStrategy> services) {
+    public NotificationStrategyFactory(List<NotificationStrategy> services,
+                                       NotificationChannelProperties properties,
+                                       @Qualifier("notificationExecutor") Executor retryWorkers,
+                                       NotificationDeadLetterStore deadLetterStore,
+                                       MeterRegistry meterRegistry) {
+        this.retryWorkers = retryWorkers;
+        this.deadLetterStore = deadLetterStore;
         for (NotificationStrategy service : services) {
             strategiesMap.put(service.getType(), service);
+            providerTimers.put(service.getType(),
+                    new TimedNotificationDecorator.Timers(meterRegistry, service.getType().name().toLowerCase()));
+        }
+        reload(properties.getChannels());
+        for (NotificationType type : strategiesMap.keySet()) {
+            String channel = type.name().toLowerCase();
+            Gauge.builder("notification.circuit.state", this, factory -> factory.guardMetric(type,
+                            guard -> guard.getCircuitBreaker().getState().ordinal()))
+                    .tag("channel", channel).register(meterRegistry);
+            Gauge.builder("notification.concurrency.limit", this, factory -> factory.guardMetric(type,
+                            guard -> guard.getConcurrencyLimit().getLimit()))
+                    .tag("channel", channel).register(meterRegistry);
+            Gauge.builder("notification.concurrency.in-flight", this, factory -> factory.guardMetric(type,
+                            guard -> guard.getConcurrencyLimit().getInFlight()))
+                    .tag("channel", channel).register(meterRegistry);
         }
     }
+
     public NotificationStrategy getStrategy(NotificationType type) {
-        NotificationStrategy strategy = strategiesMap.get(type);
+        NotificationStrategy strategy = chains.get(type);
         if (strategy == null) {
             throw new IllegalArgumentException("No strategy found for channel: " + type);
         }
-        // Apply decorators
-        strategy = new LoggingNotificationDecorator(strategy);
-        strategy = new RetryNotificationDecorator(strategy, 3);
+        return strategy;
+    }
+
+    /**
+     * Rebuilds the chains of the given channels; channels not listed keep their current settings.
+     * Sends already running finish on the chain they started with. The whole update is validated first,
+     * so an invalid channel leaves every chain as it was.
+     *
+     * @throws InvalidNotificationChannelException if a channel or its settings are missing or out of range
+     */
+    public synchronized void reload(Map<NotificationType, NotificationChannelProperties.ChannelSettings> updates) {
+        validate(updates);
+        Map<NotificationType, NotificationChannelProperties.ChannelSettings> merged = new EnumMap<>(NotificationType.class);
+        if (settings != null) {
+            merged.putAll(settings);
+        }
+        merged.putAll(updates);
+
+        Map<NotificationType, RetryBudget> budgets = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            if (retryBudgets != null && !updates.containsKey(type)) {
+                budgets.put(type, retryBudgets.get(type));
+            } else {
+                NotificationChannelProperties.ChannelSettings channel =
+                        merged.getOrDefault(type, new NotificationChannelProperties.ChannelSettings());
+                budgets.put(type, new RetryBudget(channel.getRetryBudgetRatio(), channel.getRetryBudgetMaxTokens()));
+            }
+        }
+
+        Map<NotificationType, NotificationStrategy> built = new EnumMap<>(NotificationType.class);
+        Map<NotificationType, CircuitBreakerNotificationDecorator> guards = new EnumMap<>(NotificationType.class);
+        for (Map.Entry<NotificationType, NotificationStrategy> entry : strategiesMap.entrySet()) {
+            NotificationType type = entry.getKey();
+            if (chains != null && chains.containsKey(type) && !updates.containsKey(type)) {
+                // Untouched channels keep their chain, including its concurrency and rate-limit state
+                built.put(type, chains.get(type));
+                if (circuitBreakers.containsKey(type)) {
+                    guards.put(type, circuitBreakers.get(type));
+                }
+                continue;
+            }
+            NotificationChannelProperties.ChannelSettings channel =
+                    merged.computeIfAbsent(type, ignored -> new NotificationChannelProperties.ChannelSettings());
+            built.put(type, buildChain(entry.getValue(), channel, budgets.get(type), guards));
+            log.info("Notification chain for {}: {}", type, channel.getDecorators());
+        }
+        this.settings = Collections.unmodifiableMap(merged);
+        this.chains = Collections.unmodifiableMap(built);
+        this.circuitBreakers = Collections.unmodifiableMap(guards);
+        this.retryBudgets = Collections.unmodifiableMap(budgets);
+    }
+
+    public Map<NotificationType, NotificationChannelProperties.ChannelSettings> getSettings() {
+        return settings;
+    }
+
+    /**
+     * Circuit breaker decorators of the current chains, for channels that have one.
+     */
+    public Map<NotificationType, CircuitBreakerNotificationDecorator> getCircuitBreakers() {
+        return circuitBreakers;
+    }
 
+    /**
+     * Retry budget of the channel; first attempts deposit into it and every retry, in memory or from the
+     * outbox, spends from it.
+     */
+    public RetryBudget getRetryBudget(NotificationType type) {
+        return retryBudgets.get(type);
+    }
+
+    @Override
+    public void destroy() {
+        timeoutExecutor.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    private static void validate(Map<NotificationType, NotificationChannelProperties.ChannelSettings> updates) {
+        if (updates == null) {
+            throw new InvalidNotificationChannelException("Channel settings are required");
+        }
+        for (Map.Entry<NotificationType, NotificationChannelProperties.ChannelSettings> entry : updates.entrySet()) {
+            NotificationType type = entry.getKey();
+            NotificationChannelProperties.ChannelSettings channel = entry.getValue();
+            if (type == null) {
+                throw new InvalidNotificationChannelException("Unknown notification channel");
+            }
+            if (channel == null) {
+                throw new InvalidNotificationChannelException("Settings are required for channel: " + type);
+            }
+            if (channel.getDecorators() == null || channel.getDecorators().stream().anyMatch(Objects::isNull)) {
+                throw new InvalidNotificationChannelException("Decorators must be a list of "
+                        + List.of(NotificationDecoratorType.values()) + " for channel: " + type);
+            }
+            require(channel.getMaxRetries() >= 0, type, "maxRetries must not be negative");
+            require(channel.getRetryBaseDelayMs() >= 0 && channel.getRetryMaxDelayMs() >= channel.getRetryBaseDelayMs(),
+                    type, "retryBaseDelayMs must be between 0 and retryMaxDelayMs");
+            require(channel.getRetryBudgetRatio() >= 0 && channel.getRetryBudgetMaxTokens() >= 0,
+                    type, "retry budget must not be negative");
+            require(channel.getMaxConcurrency() > 0, type, "maxConcurrency must be positive");
+            require(channel.getAcquireTimeoutMs() >= 0, type, "acquireTimeoutMs must not be negative");
+            require(channel.getTimeoutMs() > 0, type, "timeoutMs must be positive");
+            require(channel.getRateLimitPerSecond() > 0, type, "rateLimitPerSecond must be positive");
+            require(channel.getCircuitFailureRateThreshold() > 0 && channel.getCircuitFailureRateThreshold() <= 1,
+                    type, "circuitFailureRateThreshold must be in (0, 1]");
+            require(channel.getCircuitWindowSize() > 0 && channel.getCircuitMinimumCalls() > 0
+                    && channel.getCircuitHalfOpenProbes() > 0, type,
+                    "circuitWindowSize, circuitMinimumCalls and circuitHalfOpenProbes must be positive");
+            require(channel.getCircuitOpenDurationMs() >= 0, type, "circuitOpenDurationMs must not be negative");
+            require(channel.getAdaptiveInitialLimit() > 0 && channel.getAdaptiveLatencyThresholdMs() > 0,
+                    type, "adaptiveInitialLimit and adaptiveLatencyThresholdMs must be positive");
+            require(channel.getAdaptiveBackoffRatio() > 0 && channel.getAdaptiveBackoffRatio() < 1,
+                    type, "adaptiveBackoffRatio must be in (0, 1)");
+        }
+    }
+
+    private static void require(boolean valid, NotificationType type, String message) {
+        if (!valid) {
+            throw new InvalidNotificationChannelException(message + " for channel: " + type);
+        }
+    }
+
+    private double guardMetric(NotificationType type, ToDoubleFunction<CircuitBreakerNotificationDecorator> metric) {
+        CircuitBreakerNotificationDecorator guard = circuitBreakers.get(type);
+        return guard != null ? metric.applyAsDouble(guard) : Double.NaN;
+    }
+
+    private NotificationStrategy buildChain(NotificationStrategy strategy,
+                                            NotificationChannelProperties.ChannelSettings channel,
+                                            RetryBudget retryBudget,
+                                            Map<NotificationType, CircuitBreakerNotificationDecorator> guards) {
+        List<NotificationDecoratorType> decorators = channel.getDecorators();
+        // Provider latency is always measured, directly around the provider call
+        strategy = new TimedNotificationDecorator(strategy, providerTimers.get(strategy.getType()));
+        // Wrap innermost first so the first listed decorator ends up outermost
+        for (int i = decorators.size() - 1; i >= 0; i--) {
+            strategy = switch (decorators.get(i)) {
+                case LOGGING -> new LoggingNotificationDecorator(strategy);
+                case RETRY -> new RetryNotificationDecorator(strategy,
+                        new RetryPolicy(channel.getMaxRetries(), channel.getRetryBaseDelayMs(), channel.getRetryMaxDelayMs()),
+                        retryBudget, retryScheduler, retryWorkers, deadLetterStore);
+                case CONCURRENCY_LIMIT -> new ConcurrencyLimitNotificationDecorator(strategy,
+                        new Semaphore(channel.getMaxConcurrency()), channel.getAcquireTimeoutMs());
+                case TIMEOUT -> new TimeoutNotificationDecorator(strategy, timeoutExecutor, channel.getTimeoutMs());
+                case RATE_LIMIT -> new RateLimitNotificationDecorator(strategy,
+                        channel.getRateLimitPerSecond(), channel.getAcquireTimeoutMs());
+                case CIRCUIT_BREAKER -> {
+                    CircuitBreakerNotificationDecorator guard = new CircuitBreakerNotificationDecorator(strategy,
+                            new CircuitBreaker(channel.getCircuitFailureRateThreshold(), channel.getCircuitWindowSize(),
+                                    channel.getCircuitMinimumCalls(), channel.getCircuitOpenDurationMs(),
+                                    channel.getCircuitHalfOpenProbes()),
+                            new AdaptiveConcurrencyLimit(channel.getAdaptiveInitialLimit(), 1, channel.getMaxConcurrency(),
+                                    channel.getAdaptiveLatencyThresholdMs(), channel.getAdaptiveBackoffRatio()));
+                    guards.put(strategy.getType(), guard);
+                    yield guard;
+                }
+            };
+        }
         return strategy;
     }
 }
@@ -0,0 +1,94 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message template split once into literal text and placeholders, so rendering is a single
+ * pass of appends with no parsing or searching. Placeholders are written as the name in braces,
+ * e.g. {@code {orderId}}; <code>{{</code> stands for a literal opening brace.
+ */
+final class NotificationTemplate {
+
+    enum Placeholder {
+        ORDER_ID("orderId"),
+        CUSTOMER_NAME("customerName"),
+        TOTAL_AMOUNT("totalAmount"),
+        STATUS("status");
+
+        private final String name;
+
+        Placeholder(String name) {
+            this.name = name;
+        }
+
+        static Placeholder fromName(String name) {
+            for (Placeholder placeholder : values()) {
+                if (placeholder.name.equals(name)) {
+                    return placeholder;
+                }
+            }
+            throw new IllegalArgumentException("Unknown placeholder {" + name + "}");
+        }
+    }
+
+    // literals[i] is followed by placeholders[i]; the last literal has no placeholder after it
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+
+    private NotificationTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static NotificationTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '{' && source.startsWith("{{", i)) {
+                literal.append('{');
+                i += 2;
+            } else if (c == '{') {
+                int end = source.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder at offset " + i + " in: " + source);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                placeholders.add(Placeholder.fromName(source.substring(i + 1, end).trim()));
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new NotificationTemplate(literals.toArray(String[]::new), placeholders.toArray(Placeholder[]::new));
+    }
+
+    void renderTo(StringBuilder out, Order order, OrderStatus status) {
+        out.ensureCapacity(out.length() + literalLength + 64);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            switch (placeholders[i]) {
+                case ORDER_ID -> out.append(order.getId());
+                case CUSTOMER_NAME -> out.append(order.getCustomerName());
+                case TOTAL_AMOUNT -> out.append(order.getTotalAmount() == null ? "" : order.getTotalAmount().toPlainString());
+                case STATUS -> out.append(status.name());
+            }
+        }
+        out.append(literals[placeholders.length]);
+    }
+}
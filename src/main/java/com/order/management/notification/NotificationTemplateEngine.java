@@ -0,0 +1,224 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Renders notification messages from templates precompiled per (status, channel, locale).
+ *
+ * <p>Templates are read from {@code messages.properties} (the fallback for every locale) and
+ * {@code messages_<locale>.properties} under {@code notification.templates.location}, keyed
+ * {@code <channel>.<status>}, e.g. {@code email.shipped}. A locale file only needs the keys it
+ * translates. All templates are compiled into an immutable table that is swapped in whole when
+ * the files change, so sends in progress keep rendering with the table they started with.
+ */
+@Slf4j
+@Component
+public class NotificationTemplateEngine {
+    private static final String BASE_NAME = "messages";
+    private static final int MAX_REUSED_CAPACITY = 4096;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final NotificationType[] TYPES = NotificationType.values();
+
+    private final String location;
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private volatile Templates templates;
+
+    public NotificationTemplateEngine(@Value("${notification.templates.location:classpath:notification-templates/}") String location) {
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.templates = load();
+        log.info("Loaded notification templates for locales {}", templates.getLocales());
+    }
+
+    /**
+     * @param languageTag the recipient's locale, e.g. {@code fr-CA}; falls back to its language,
+     *                    then to the default templates. Null means the default templates.
+     */
+    public String render(Order order, OrderStatus status, NotificationType type, String languageTag) {
+        NotificationTemplate template = templates.lookup(languageTag)[index(status, type)];
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        template.renderTo(buffer, order, status);
+        String message = buffer.toString();
+        if (buffer.capacity() > MAX_REUSED_CAPACITY) {
+            buffers.remove();
+        }
+        return message;
+    }
+
+    /**
+     * Recompiles every template and swaps them in; on any error the current templates stay active.
+     *
+     * @return the locales now loaded
+     */
+    public synchronized List<String> reload() {
+        templates = load();
+        log.info("Reloaded notification templates for locales {}", templates.getLocales());
+        return templates.getLocales();
+    }
+
+    public Instant getLoadedAt() {
+        return templates.loadedAt;
+    }
+
+    /**
+     * Picks up edited template files; cheap when nothing changed since only modification times are read.
+     */
+    @Scheduled(initialDelayString = "${notification.templates.refresh-interval-ms:10000}",
+            fixedDelayString = "${notification.templates.refresh-interval-ms:10000}")
+    public synchronized void reloadIfChanged() {
+        try {
+            if (!fingerprint(resources()).equals(templates.fingerprint)) {
+                reload();
+            }
+        } catch (RuntimeException | IOException e) {
+            log.error("Notification template reload failed, keeping the templates loaded at {}: {}",
+                    templates.loadedAt, e.getMessage());
+        }
+    }
+
+    private Templates load() {
+        try {
+            Resource[] resources = resources();
+            Map<String, Properties> sources = new HashMap<>();
+            for (Resource resource : resources) {
+                sources.put(languageTag(resource.getFilename()), read(resource));
+            }
+            Properties defaults = sources.get("");
+            if (defaults == null) {
+                throw new IllegalStateException("No " + BASE_NAME + ".properties found under " + location);
+            }
+            Map<String, NotificationTemplate[]> compiled = new HashMap<>();
+            NotificationTemplate[] fallback = compile(defaults, null, "");
+            compiled.put("", fallback);
+            // languages first, so that a regional file can fall back to its language's templates
+            List<String> tags = sources.keySet().stream()
+                    .filter(tag -> !tag.isEmpty())
+                    .sorted(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+                    .toList();
+            for (String tag : tags) {
+                NotificationTemplate[] parent = compiled.getOrDefault(language(tag), fallback);
+                compiled.put(tag, compile(sources.get(tag), parent, tag));
+            }
+            return new Templates(Map.copyOf(compiled), fingerprint(resources), Instant.now());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read notification templates from " + location, e);
+        }
+    }
+
+    private NotificationTemplate[] compile(Properties source, NotificationTemplate[] parent, String tag) {
+        NotificationTemplate[] compiled = new NotificationTemplate[STATUSES.length * TYPES.length];
+        for (OrderStatus status : STATUSES) {
+            for (NotificationType type : TYPES) {
+                String key = type.name().toLowerCase() + "." + status.name().toLowerCase();
+                String text = source.getProperty(key);
+                int index = index(status, type);
+                if (text != null) {
+                    try {
+                        compiled[index] = NotificationTemplate.compile(text);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalStateException("Invalid template " + key + " for locale '" + tag + "': "
+                                + e.getMessage(), e);
+                    }
+                } else if (parent != null) {
+                    compiled[index] = parent[index];
+                } else {
+                    throw new IllegalStateException("Missing template " + key + " in " + BASE_NAME + ".properties");
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private Resource[] resources() throws IOException {
+        Resource[] resources = resolver.getResources(location + BASE_NAME + "*.properties");
+        Arrays.sort(resources, Comparator.comparing(Resource::getFilename));
+        return resources;
+    }
+
+    private static Properties read(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private static String fingerprint(Resource[] resources) throws IOException {
+        StringBuilder fingerprint = new StringBuilder();
+        for (Resource resource : resources) {
+            fingerprint.append(resource.getFilename()).append(':').append(resource.lastModified())
+                    .append(':').append(resource.contentLength()).append(';');
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * {@code messages_fr_CA.properties} to {@code fr-CA}; the base file maps to the empty tag.
+     */
+    private static String languageTag(String filename) {
+        String suffix = filename.substring(BASE_NAME.length(), filename.length() - ".properties".length());
+        if (suffix.isEmpty()) {
+            return "";
+        }
+        return Locale.forLanguageTag(suffix.substring(1).replace('_', '-')).toLanguageTag();
+    }
+
+    private static String language(String tag) {
+        int dash = tag.indexOf('-');
+        return dash < 0 ? "" : tag.substring(0, dash);
+    }
+
+    private static int index(OrderStatus status, NotificationType type) {
+        return status.ordinal() * TYPES.length + type.ordinal();
+    }
+
+    private static final class Templates {
+        private final Map<String, NotificationTemplate[]> byLanguageTag;
+        private final String fingerprint;
+        private final Instant loadedAt;
+
+        private Templates(Map<String, NotificationTemplate[]> byLanguageTag, String fingerprint, Instant loadedAt) {
+            this.byLanguageTag = byLanguageTag;
+            this.fingerprint = fingerprint;
+            this.loadedAt = loadedAt;
+        }
+
+        NotificationTemplate[] lookup(String languageTag) {
+            if (languageTag == null || languageTag.isEmpty()) {
+                return byLanguageTag.get("");
+            }
+            NotificationTemplate[] templates = byLanguageTag.get(languageTag);
+            if (templates == null) {
+                templates = byLanguageTag.getOrDefault(language(languageTag), byLanguageTag.get(""));
+            }
+            return templates;
+        }
+
+        List<String> getLocales() {
+            return byLanguageTag.keySet().stream().map(tag -> tag.isEmpty() ? "default" : tag).sorted().toList();
+        }
+    }
+}
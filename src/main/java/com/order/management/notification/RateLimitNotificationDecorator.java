@@ -0,0 +1,74 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token-bucket limit on provider calls per second for one channel. A batch counts as one call.
+ * Callers wait up to the acquire timeout for a token, then fail with a {@link NotificationRejectedException}
+ * carrying the wait for the next token; the outbox keeps those rows and sends them again after that wait
+ * without spending an attempt.
+ */
+@Slf4j
+public class RateLimitNotificationDecorator extends NotificationStrategyDecorator {
+    private final double permitsPerNano;
+    private final double burst;
+    private final long acquireTimeoutNanos;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public RateLimitNotificationDecorator(NotificationStrategy delegate, double permitsPerSecond, long acquireTimeoutMs) {
+        super(delegate);
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, permitsPerSecond);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.availablePermits = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    @Override
+    public void send(Order order, String message) {
+        acquire();
+        super.send(order, message);
+    }
+
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        acquire();
+        return super.sendBatch(envelopes);
+    }
+
+    private void acquire() {
+        long deadline = System.nanoTime() + acquireTimeoutNanos;
+        while (true) {
+            long waitNanos = tryAcquire();
+            if (waitNanos == 0) {
+                return;
+            }
+            if (System.nanoTime() + waitNanos > deadline) {
+                log.warn("{} rate limit reached", getType());
+                throw new NotificationRejectedException("Rate limit reached for channel: " + getType(),
+                        TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999));
+            }
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    /**
+     * @return 0 when a permit was taken, otherwise the time until the next one becomes available
+     */
+    private synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(burst, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        if (availablePermits >= 1) {
+            availablePermits -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - availablePermits) / permitsPerNano);
+    }
+}
@@ -0,0 +1,30 @@
+package com.order.management.notification;
+
+/**
+ * Caps retries at a fraction of regular traffic for one channel. Every first attempt deposits
+ * {@code ratio} tokens (up to {@code maxTokens}) and every retry spends one, so while a provider is
+ * down retries add at most {@code ratio} extra load instead of multiplying it.
+ */
+public class RetryBudget {
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void recordAttempt() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
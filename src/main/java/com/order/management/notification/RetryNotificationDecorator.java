@@ -3,32 +3,105 @@ package com.order.management.notification;
 import com.order.management.model.Order;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries failed single sends without holding a thread. The first attempt runs on the caller's thread; a
+ * failure is re-attempted on the worker executor after a jittered exponential backoff, timed by a shared
+ * scheduler, while the caller returns. Retries draw on the channel's {@link RetryBudget}, which the outbox
+ * shares. Messages that exhaust their attempts, or find the budget empty mid-retry, go to the
+ * {@link NotificationDeadLetterStore}.
+ * A retry the worker executor rejects counts as a failed attempt, so the scheduler thread never sends.
+ * <p>
+ * Batches are not retried here: they come from the notification outbox, which keeps the row and retries it
+ * with its own backoff. An in-memory retry would report the message as delivered, so the row would be
+ * deleted and the message lost on restart. The default channel chains therefore leave this decorator out.
+ */
 @Slf4j
 public class RetryNotificationDecorator extends NotificationStrategyDecorator {
-    private final int maxRetries;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final ScheduledExecutorService scheduler;
+    private final Executor workers;
+    private final NotificationDeadLetterStore deadLetterStore;
 
-    public RetryNotificationDecorator(NotificationStrategy delegate, int maxRetries) {
+    public RetryNotificationDecorator(NotificationStrategy delegate,
+                                      RetryPolicy retryPolicy,
+                                      RetryBudget retryBudget,
+                                      ScheduledExecutorService scheduler,
+                                      Executor workers,
+                                      NotificationDeadLetterStore deadLetterStore) {
         super(delegate);
-        this.maxRetries = maxRetries;
+        this.retryPolicy = retryPolicy;
+        this.retryBudget = retryBudget;
+        this.scheduler = scheduler;
+        this.workers = workers;
+        this.deadLetterStore = deadLetterStore;
     }
 
+    /**
+     * Returns once the message is delivered or a retry is scheduled; throws only when the first attempt
+     * failed and no retry is possible.
+     */
     @Override
     public void send(Order order, String message) {
-        int attempt = 0;
-        while (attempt < maxRetries) {
+        retryBudget.recordAttempt();
+        try {
+            super.send(order, message);
+        } catch (RuntimeException e) {
+            if (!scheduleRetry(new NotificationEnvelope(order, message), 1, e)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Passes every failure back untouched so the outbox reschedules those rows.
+     */
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        return super.sendBatch(envelopes);
+    }
+
+    private boolean scheduleRetry(NotificationEnvelope envelope, int attemptsMade, RuntimeException error) {
+        if (!retryPolicy.canRetry(attemptsMade)) {
+            log.error("Notification for order {} failed after {} attempts", envelope.getOrder().getId(), attemptsMade);
+            return false;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+            log.warn("{} retry budget exhausted, not retrying order {}", getType(), envelope.getOrder().getId());
+            return false;
+        }
+        long delayMs = retryPolicy.backoffDelayMs(attemptsMade);
+        log.warn("Notification failed on attempt {}. Retrying in {} ms", attemptsMade, delayMs, error);
+        scheduler.schedule(() -> {
             try {
-                super.send(order, message);
-                log.info("Notification sent successfully on attempt {}", attempt + 1);
-                return;
-            } catch (Exception e) {
-                attempt++;
-                log.warn("Notification failed on attempt {}. Retrying...", attempt, e);
-                if (attempt >= maxRetries) {
-                    log.error("Notification failed after {} attempts", maxRetries);
-                    throw new RuntimeException("Failed to send notification after " + maxRetries + " attempts", e);
-                }
+                workers.execute(() -> reattempt(envelope, attemptsMade + 1));
+            } catch (RejectedExecutionException e) {
+                retryFailed(envelope, attemptsMade + 1, e);
             }
+        }, delayMs, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private void reattempt(NotificationEnvelope envelope, int attempt) {
+        try {
+            super.send(envelope.getOrder(), envelope.getMessage());
+            log.info("Notification sent successfully on attempt {}", attempt);
+        } catch (RuntimeException e) {
+            retryFailed(envelope, attempt, e);
         }
     }
 
+    private void retryFailed(NotificationEnvelope envelope, int attempt, RuntimeException error) {
+        if (!scheduleRetry(envelope, attempt, error)) {
+            // single sends carry no notification status; the order's current one is the closest record
+            deadLetterStore.record(envelope.getOrder(), getType(), envelope.getOrder().getStatus(),
+                    envelope.getMessage(), attempt, error);
+        }
+    }
 }
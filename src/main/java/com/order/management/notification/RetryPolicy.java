@@ -0,0 +1,38 @@
+package com.order.management.notification;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter: the delay before attempt {@code n + 1} is drawn uniformly from
+ * {@code [0, min(maxDelay, baseDelay * 2^(n-1))]}, which spreads retries from many senders over time
+ * instead of having them hit a recovering provider together.
+ */
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean canRetry(int attemptsMade) {
+        return attemptsMade < maxAttempts;
+    }
+
+    /**
+     * @param attemptsMade attempts already made, starting at 1
+     * @return delay in milliseconds before the next attempt
+     */
+    public long backoffDelayMs(int attemptsMade) {
+        int exponent = Math.min(Math.max(attemptsMade - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << exponent);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -5,6 +5,8 @@ import com.order.management.model.Order;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class SMSNotificationStrategy implements NotificationStrategy {
@@ -18,7 +20,20 @@ public class SMSNotificationStrategy implements NotificationStrategy {
         log.info("Sending SMS notification to {} for order {}",order.getMobileNumber(), order.getId());
         log.info("Message: {}", message);
         // Mock SMS service call
-        mockSMSServiceCall(order.getId(), message);
+        mockSMSServiceCall(order.getId().toString(), message);
+    }
+
+    /**
+     * send all SMS in one bulk gateway request
+     * @param envelopes
+     * @return
+     */
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        log.info("Sending {} SMS notifications in one bulk request", envelopes.size());
+        // Mock bulk SMS service call
+        mockBulkSMSServiceCall(envelopes);
+        return NotificationBatchResult.success();
     }
 
     @Override
@@ -29,4 +44,8 @@ public class SMSNotificationStrategy implements NotificationStrategy {
     private void mockSMSServiceCall(String orderId, String message) {
         log.info("Mock SMS Service: SMS sent for order {} with content: {}", orderId, message);
     }
+
+    private void mockBulkSMSServiceCall(List<NotificationEnvelope> envelopes) {
+        log.info("Mock SMS Service: {} SMS sent in bulk", envelopes.size());
+    }
 }
@@ -0,0 +1,72 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times calls to the channel's provider. The factory always places it innermost, so every attempt is measured
+ * on its own and retries, queueing and rate limiting stay out of the figures.
+ */
+public class TimedNotificationDecorator extends NotificationStrategyDecorator {
+    private final Timers timers;
+
+    protected TimedNotificationDecorator(NotificationStrategy delegate, Timers timers) {
+        super(delegate);
+        this.timers = timers;
+    }
+
+    @Override
+    public void send(Order order, String message) {
+        long start = System.nanoTime();
+        try {
+            super.send(order, message);
+            timers.sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            timers.sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        long start = System.nanoTime();
+        try {
+            NotificationBatchResult result = super.sendBatch(envelopes);
+            timers.batchSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            timers.batchFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * One channel's timers, registered once and shared by every chain built for it.
+     */
+    static final class Timers {
+        private final Timer sendSuccess;
+        private final Timer sendFailure;
+        private final Timer batchSuccess;
+        private final Timer batchFailure;
+
+        Timers(MeterRegistry meterRegistry, String channel) {
+            this.sendSuccess = timer(meterRegistry, channel, "send", "success");
+            this.sendFailure = timer(meterRegistry, channel, "send", "failure");
+            this.batchSuccess = timer(meterRegistry, channel, "batch", "success");
+            this.batchFailure = timer(meterRegistry, channel, "batch", "failure");
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, String channel, String call, String outcome) {
+            return Timer.builder("notification.provider.call")
+                    .description("Latency of a single call to the notification provider")
+                    .tag("channel", channel)
+                    .tag("call", call)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
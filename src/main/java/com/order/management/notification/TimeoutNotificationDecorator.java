@@ -0,0 +1,62 @@
+package com.order.management.notification;
+
+import com.order.management.model.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Bounds how long the caller waits for one provider call. The call runs on a separate executor and
+ * is cancelled (interrupted) when it does not finish in time.
+ */
+@Slf4j
+public class TimeoutNotificationDecorator extends NotificationStrategyDecorator {
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    public TimeoutNotificationDecorator(NotificationStrategy delegate, ExecutorService executor, long timeoutMs) {
+        super(delegate);
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void send(Order order, String message) {
+        call(() -> {
+            super.send(order, message);
+            return null;
+        });
+    }
+
+    @Override
+    public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+        return call(() -> super.sendBatch(envelopes));
+    }
+
+    private <T> T call(Supplier<T> providerCall) {
+        Future<T> future = executor.submit(providerCall::get);
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("{} provider call exceeded {} ms", getType(), timeoutMs);
+            throw new IllegalStateException("Notification timed out after " + timeoutMs + " ms on channel: " + getType(), e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + getType() + " provider", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
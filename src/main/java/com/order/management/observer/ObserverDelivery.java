@@ -0,0 +1,17 @@
+package com.order.management.observer;
+
+/**
+ * How {@link OrderStatusManager} hands a status change to an observer.
+ */
+public enum ObserverDelivery {
+    /**
+     * On the thread that changed the status, before the request returns. Use for cheap observers that
+     * must take part in the change's transaction.
+     */
+    SYNC,
+    /**
+     * After the change commits, on the observer's own lanes. Changes to the same order arrive in the order
+     * they were published; a full lane drops the event rather than slowing down the request.
+     */
+    ASYNC
+}
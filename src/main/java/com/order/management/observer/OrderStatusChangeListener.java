@@ -43,6 +43,14 @@ public class OrderStatusChangeListener implements OrderStatusObserver {
         }
     }
 
+    /**
+     * Payment processing must not hold up the status update response.
+     */
+    @Override
+    public ObserverDelivery delivery() {
+        return ObserverDelivery.ASYNC;
+    }
+
     private void handleOrderInProgress(Order order) {
         log.info("Processing in-progress for order: {}", order.getId());
         // Additional logic for order in-progress
@@ -1,27 +1,131 @@
 package com.order.management.observer;
 
+import com.order.management.config.ShardedExecutor;
 import com.order.management.model.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Fans status changes out to every {@link OrderStatusObserver}. Synchronous observers run in turn on the
+ * calling thread; asynchronous ones each get their own {@link ShardedExecutor} and are only handed the change
+ * once the surrounding transaction commits. A failing observer is logged and counted without affecting the
+ * others or the status change itself.
+ */
 @Slf4j
 @Component
 public class OrderStatusManager {
 
-    private final List<OrderStatusObserver> observers;
+    private final List<Registration> syncObservers = new ArrayList<>();
+    private final List<Registration> asyncObservers = new ArrayList<>();
 
-    public OrderStatusManager(List<OrderStatusObserver> observers) {
-        this.observers = observers; // Spring injects ALL observers automatically
-        observers.forEach(o ->
-                log.info("Observer auto-registered: {}", o.getClass().getSimpleName())
-        );
+    public OrderStatusManager(List<OrderStatusObserver> observers,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.observers.async.lanes:4}") int lanes,
+                              @Value("${order.observers.async.queue-capacity:1000}") int queueCapacity) {
+        // Spring injects ALL observers automatically
+        for (OrderStatusObserver observer : observers) {
+            String name = observer.getClass().getSimpleName();
+            if (observer.delivery() == ObserverDelivery.ASYNC) {
+                ShardedExecutor observerLanes = new ShardedExecutor("observer-" + name, lanes, queueCapacity);
+                Gauge.builder("order.observer.queue.depth", observerLanes, ShardedExecutor::getQueueDepth)
+                        .tag("observer", name)
+                        .register(meterRegistry);
+                asyncObservers.add(new Registration(observer, name, observerLanes, meterRegistry));
+            } else {
+                syncObservers.add(new Registration(observer, name, null, meterRegistry));
+            }
+            log.info("Observer auto-registered: {} ({})", name, observer.delivery());
+        }
     }
 
     public void notifyObservers(Order order, String previousStatus) {
-        for (OrderStatusObserver observer : observers) {
-            observer.onOrderStatusChange(order, previousStatus);
+        for (Registration registration : syncObservers) {
+            registration.deliver(order, previousStatus, System.nanoTime());
+        }
+        if (asyncObservers.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishAsync(order, previousStatus);
+                }
+            });
+        } else {
+            publishAsync(order, previousStatus);
+        }
+    }
+
+    private void publishAsync(Order order, String previousStatus) {
+        long publishedAt = System.nanoTime();
+        for (Registration registration : asyncObservers) {
+            boolean queued = registration.lanes.execute(order.getId(),
+                    () -> registration.deliver(order, previousStatus, publishedAt));
+            if (!queued) {
+                registration.rejected.increment();
+                log.error("Dropped status change {} -> {} of order {} for observer {}: queue full",
+                        previousStatus, order.getStatus(), order.getId(), registration.name);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Registration registration : asyncObservers) {
+            if (!registration.lanes.shutdown(5000)) {
+                log.warn("Observer {} still had queued status changes at shutdown", registration.name);
+            }
+        }
+    }
+
+    private static final class Registration {
+        private final OrderStatusObserver observer;
+        private final String name;
+        private final ShardedExecutor lanes;
+        private final Timer lag;
+        private final Timer duration;
+        private final Counter failures;
+        private final Counter rejected;
+
+        private Registration(OrderStatusObserver observer, String name, ShardedExecutor lanes, MeterRegistry meterRegistry) {
+            this.observer = observer;
+            this.name = name;
+            this.lanes = lanes;
+            this.lag = Timer.builder("order.observer.lag")
+                    .description("Time from publishing a status change to the observer starting on it")
+                    .tag("observer", name)
+                    .register(meterRegistry);
+            this.duration = Timer.builder("order.observer.duration")
+                    .description("Time an observer spends handling one status change")
+                    .tag("observer", name)
+                    .register(meterRegistry);
+            this.failures = Counter.builder("order.observer.failures").tag("observer", name).register(meterRegistry);
+            this.rejected = Counter.builder("order.observer.rejected").tag("observer", name).register(meterRegistry);
+        }
+
+        private void deliver(Order order, String previousStatus, long publishedAt) {
+            long start = System.nanoTime();
+            lag.record(start - publishedAt, TimeUnit.NANOSECONDS);
+            try {
+                observer.onOrderStatusChange(order, previousStatus);
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Observer {} failed for order {}", name, order.getId(), e);
+            } finally {
+                duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
         }
     }
 }
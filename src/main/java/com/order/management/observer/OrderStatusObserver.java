@@ -4,4 +4,8 @@ import com.order.management.model.Order;
 
 public interface OrderStatusObserver {
     void onOrderStatusChange(Order order, String previousStatus);
+
+    default ObserverDelivery delivery() {
+        return ObserverDelivery.SYNC;
+    }
 }
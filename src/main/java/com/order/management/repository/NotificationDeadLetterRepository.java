@@ -0,0 +1,11 @@
+package com.order.management.repository;
+
+import com.order.management.model.NotificationDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, UUID> {
+}
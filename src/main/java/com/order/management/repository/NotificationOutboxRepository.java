@@ -0,0 +1,45 @@
+package com.order.management.repository;
+
+import com.order.management.model.NotificationOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntry, UUID> {
+
+    /**
+     * Entries whose next attempt is due, oldest first (ids are time-ordered). An entry waiting behind an
+     * older entry of the same order that is not due yet is skipped, so a notification written after a
+     * failed one cannot overtake it. Older entries that are due sort ahead of it and land in the same page.
+     */
+    @Query("select e from NotificationOutboxEntry e where e.nextAttemptAt <= :now and not exists (" +
+            "select p from NotificationOutboxEntry p where p.orderId = e.orderId and p.id < e.id " +
+            "and p.nextAttemptAt > :now) order by e.id asc")
+    List<NotificationOutboxEntry> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claims those of the given entries that are still due for one dispatch batch: they get the claim id and
+     * their next attempt moves to the end of the lease, so {@link #findDue} on every node skips them, and the
+     * later entries of their orders, until the batch has recorded its outcome or the lease runs out. Entries
+     * another dispatcher claimed first no longer match.
+     * @return number of entries claimed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update NotificationOutboxEntry e set e.claimedBy = :claim, e.nextAttemptAt = :leaseUntil " +
+            "where e.id in :ids and e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("claim") UUID claim,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<NotificationOutboxEntry> findByClaimedByOrderByIdAsc(UUID claimedBy);
+}
@@ -1,10 +1,87 @@
 package com.order.management.repository;
 
+import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderStatsRow;
+import com.order.management.dto.OrderStatusRow;
 import com.order.management.model.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import com.order.management.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, String> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderSearchRepository {
     // JpaRepository provides save(), findById(), findAll(), delete(), etc.
+
+    /**
+     * Selects order columns straight into {@link OrderResponse}, for reads that never modify the order:
+     * no entity is hydrated, tracked or snapshotted for dirty checking.
+     */
+    String RESPONSE_PROJECTION = "select new com.order.management.dto.OrderResponse(o.id, o.customerName, " +
+            "o.customerEmail, o.mobileNumber, o.totalAmount, o.status, o.createdAt, o.updatedAt) from Order o ";
+
+    /**
+     * Order counts and revenue grouped by status and creation day, in one pass over the table.
+     */
+    @Query("select new com.order.management.dto.OrderStatsRow(o.status, cast(o.createdAt as LocalDate), count(o), " +
+            "sum(o.totalAmount)) from Order o group by o.status, cast(o.createdAt as LocalDate)")
+    List<OrderStatsRow> aggregateStats();
+
+    /**
+     * Current status of each of the given orders; orders that do not exist are left out.
+     */
+    @Query("select new com.order.management.dto.OrderStatusRow(o.id, o.status) from Order o where o.id in :ids")
+    List<OrderStatusRow> findStatuses(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Loader behind {@code OrderCache}; runs in its own read-only transaction, so callers serving cache hits
+     * need none.
+     */
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "where o.id = :id")
+    Optional<OrderResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(RESPONSE_PROJECTION + "order by o.createdAt asc, o.id asc")
+    List<OrderResponse> findFirstPage(Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION +
+            "where o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id) " +
+            "order by o.createdAt asc, o.id asc")
+    List<OrderResponse> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") UUID id,
+                                      Pageable pageable);
+
+    /**
+     * Forward-only cursor over all orders; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_PROJECTION + "order by o.createdAt asc, o.id asc")
+    Stream<OrderResponse> streamAll();
+
+    /**
+     * Moves the order to {@code next} only if it is still in {@code expected}, in a single statement.
+     * Clears the persistence context, so orders loaded before the call are detached.
+     * @return 1 if the order was updated, 0 if its status had changed in the meantime
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+            "where o.id = :id and o.status = :expected")
+    int compareAndSetStatus(@Param("id") UUID id,
+                            @Param("expected") OrderStatus expected,
+                            @Param("next") OrderStatus next,
+                            @Param("updatedAt") LocalDateTime updatedAt);
 }
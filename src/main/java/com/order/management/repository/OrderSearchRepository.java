@@ -0,0 +1,19 @@
+package com.order.management.repository;
+
+import com.order.management.dto.OrderCursor;
+import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Filtered order search, implemented with the Criteria API in {@link OrderSearchRepositoryImpl}.
+ */
+public interface OrderSearchRepository {
+
+    /**
+     * Orders matching every non-null filter, in (createdAt, id) order, projected straight into responses.
+     * @param after keyset position to continue from, or null for the first page
+     */
+    List<OrderResponse> search(OrderSearchCriteria criteria, OrderCursor after, int limit);
+}
@@ -0,0 +1,71 @@
+package com.order.management.repository;
+
+import com.order.management.dto.OrderCursor;
+import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderSearchCriteria;
+import com.order.management.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the search query from the filters present, so each query can use the matching
+ * {@code (column, createdAt, id)} index for both the filter and the keyset order.
+ */
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderResponse> search(OrderSearchCriteria criteria, OrderCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderResponse> query = cb.createQuery(OrderResponse.class);
+        Root<Order> order = query.from(Order.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getCustomerEmail() != null) {
+            predicates.add(cb.equal(order.get("customerEmail"), criteria.getCustomerEmail()));
+        }
+        if (criteria.getMobileNumber() != null) {
+            predicates.add(cb.equal(order.get("mobileNumber"), criteria.getMobileNumber()));
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(order.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.get("createdAt"), criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(order.get("createdAt"), criteria.getCreatedTo()));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(order.get("createdAt"), after.getCreatedAt()),
+                    cb.and(cb.equal(order.get("createdAt"), after.getCreatedAt()),
+                            cb.greaterThan(order.get("id"), after.getId()))));
+        }
+
+        query.select(cb.construct(OrderResponse.class,
+                        order.get("id"),
+                        order.get("customerName"),
+                        order.get("customerEmail"),
+                        order.get("mobileNumber"),
+                        order.get("totalAmount"),
+                        order.get("status"),
+                        order.get("createdAt"),
+                        order.get("updatedAt")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(order.get("createdAt")), cb.asc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
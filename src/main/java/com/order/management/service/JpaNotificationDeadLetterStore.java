@@ -0,0 +1,37 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationDeadLetter;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.notification.NotificationDeadLetterStore;
+import com.order.management.repository.NotificationDeadLetterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JpaNotificationDeadLetterStore implements NotificationDeadLetterStore {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationDeadLetterRepository deadLetterRepository;
+
+    @Override
+    public void record(Order order, NotificationType type, OrderStatus status, String message, int attempts, Throwable lastError) {
+        log.error("Dead-lettering {} notification for order {} after {} attempts", type, order.getId(), attempts);
+        String error = lastError == null ? null : String.valueOf(lastError.getMessage());
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        deadLetterRepository.save(NotificationDeadLetter.builder()
+                .orderId(order.getId())
+                .notificationType(type)
+                .orderStatus(status)
+                .message(message)
+                .attempts(attempts)
+                .lastError(error)
+                .build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationType;
+import com.order.management.notification.NotificationBatchResult;
+import com.order.management.notification.NotificationEnvelope;
+import com.order.management.notification.NotificationStrategyFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects notifications per channel and hands them to the channel's strategy chain as one
+ * {@code sendBatch} call, flushing when {@code notification.batch.max-size} messages are waiting or
+ * {@code notification.batch.linger-ms} after the first one arrived, whichever comes first. A batch the
+ * executor has no room for fails as a whole, leaving its rows to the outbox's next attempt.
+ */
+@Slf4j
+@Component
+public class NotificationBatchAccumulator implements DisposableBean {
+
+    private final NotificationStrategyFactory notificationFactory;
+    private final Executor executor;
+    private final ScheduledExecutorService lingerScheduler;
+    private final int maxBatchSize;
+    private final long lingerMs;
+    private final Map<NotificationType, Lane> lanes = new EnumMap<>(NotificationType.class);
+
+    public NotificationBatchAccumulator(NotificationStrategyFactory notificationFactory,
+                                        @Qualifier("notificationExecutor") Executor executor,
+                                        @Value("${notification.batch.max-size:100}") int maxBatchSize,
+                                        @Value("${notification.batch.linger-ms:20}") long lingerMs) {
+        this.notificationFactory = notificationFactory;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMs = lingerMs;
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Notification-Batch-Linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (NotificationType type : NotificationType.values()) {
+            lanes.put(type, new Lane(type));
+        }
+    }
+
+    /**
+     * @return completes when the envelope has been delivered, or exceptionally with its individual error
+     */
+    public CompletableFuture<Void> submit(NotificationType type, NotificationEnvelope envelope) {
+        return lanes.get(type).add(envelope);
+    }
+
+    @Override
+    public void destroy() {
+        lingerScheduler.shutdownNow();
+        lanes.values().forEach(Lane::flush);
+    }
+
+    private void send(NotificationType type, List<Pending> batch) {
+        List<NotificationEnvelope> envelopes = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            envelopes.add(pending.envelope);
+        }
+        try {
+            NotificationBatchResult result = notificationFactory.getStrategy(type).sendBatch(envelopes);
+            Map<NotificationEnvelope, RuntimeException> failures = new IdentityHashMap<>();
+            for (NotificationBatchResult.Failure failure : result.getFailures()) {
+                failures.put(failure.getEnvelope(), failure.getError());
+            }
+            for (Pending pending : batch) {
+                RuntimeException error = failures.get(pending.envelope);
+                if (error == null) {
+                    pending.future.complete(null);
+                } else {
+                    pending.future.completeExceptionally(error);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("{} batch of {} notifications failed", type, batch.size(), e);
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private static final class Pending {
+        private final NotificationEnvelope envelope;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Pending(NotificationEnvelope envelope) {
+            this.envelope = envelope;
+        }
+    }
+
+    private final class Lane {
+        private final NotificationType type;
+        private List<Pending> buffer = new ArrayList<>();
+        private ScheduledFuture<?> lingerFlush;
+
+        private Lane(NotificationType type) {
+            this.type = type;
+        }
+
+        CompletableFuture<Void> add(NotificationEnvelope envelope) {
+            Pending pending = new Pending(envelope);
+            List<Pending> full = null;
+            synchronized (this) {
+                buffer.add(pending);
+                if (buffer.size() >= maxBatchSize) {
+                    full = take();
+                } else if (buffer.size() == 1) {
+                    lingerFlush = lingerScheduler.schedule(this::flush, lingerMs, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            }
+            return pending.future;
+        }
+
+        void flush() {
+            List<Pending> batch;
+            synchronized (this) {
+                batch = buffer.isEmpty() ? null : take();
+            }
+            if (batch != null) {
+                dispatch(batch);
+            }
+        }
+
+        private List<Pending> take() {
+            List<Pending> batch = buffer;
+            buffer = new ArrayList<>(maxBatchSize);
+            if (lingerFlush != null) {
+                lingerFlush.cancel(false);
+                lingerFlush = null;
+            }
+            return batch;
+        }
+
+        private void dispatch(List<Pending> batch) {
+            try {
+                executor.execute(() -> send(type, batch));
+            } catch (RejectedExecutionException e) {
+                log.warn("{} batch of {} notifications rejected by the notification executor", type, batch.size());
+                batch.forEach(pending -> pending.future.completeExceptionally(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationOutboxEntry;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.notification.NotificationDeadLetterStore;
+import com.order.management.notification.NotificationRejectedException;
+import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.notification.RetryPolicy;
+import com.order.management.repository.NotificationOutboxRepository;
+import com.order.management.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox in batches. Entries are handed to the channel micro-batches of
+ * {@link NotificationService}, for at most {@code notification.outbox.parallelism} orders at a time; rows stay in the table until their send succeeds,
+ * so a burst only grows the outbox instead of overflowing an in-memory queue, and nothing is lost on
+ * restart. Delivery is at-least-once: a crash between a send and the row delete repeats that send.
+ * <p>
+ * Several instances can drain the same table. Each batch first claims its due rows with a conditional update
+ * that leases them for {@code notification.outbox.claim-lease-ms}, and sends only the rows it won, so a row is
+ * sent by one node at a time. A node that dies mid-batch leaves its rows to be claimed again once the lease
+ * runs out; outcomes are recorded only for rows the batch still holds.
+ * <p>
+ * Failed rows are retried with jittered exponential backoff and dead-lettered once
+ * {@code notification.outbox.max-attempts} is reached. Each retry spends a token from the channel's
+ * {@link com.order.management.notification.RetryBudget}, which first attempts refill; while the budget is
+ * empty a failed row waits out the backoff without spending an attempt, so a provider outage cannot burn
+ * through every row's attempts and dead-letter the backlog. Sends the channel's own guards refuse (an open
+ * circuit breaker, a full limiter, see {@link NotificationRejectedException}) never reached the provider: those
+ * rows move to when the guard is expected to admit them again, without spending an attempt or a retry token.
+ * <p>
+ * Notifications for one order go out in the order they were recorded: an order's next entry is only sent
+ * once the previous one has been delivered, and entries behind a failed one are held back until it is
+ * retried. Different orders are still sent in parallel.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final OrderRepository orderRepository;
+    private final NotificationService notificationService;
+    private final NotificationStrategyFactory strategyFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final long claimLeaseMs;
+    private final RetryPolicy retryPolicy;
+    private final NotificationDeadLetterStore deadLetterStore;
+    private final Map<NotificationType, Counter> sentCounters = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Counter> failedCounters = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Timer> sendTimers = new EnumMap<>(NotificationType.class);
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        OrderRepository orderRepository,
+                                        NotificationService notificationService,
+                                        NotificationStrategyFactory strategyFactory,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        NotificationDeadLetterStore deadLetterStore,
+                                        @Value("${notification.outbox.batch-size:200}") int batchSize,
+                                        @Value("${notification.outbox.parallelism:200}") int parallelism,
+                                        @Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+                                        @Value("${notification.outbox.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+                                        @Value("${notification.outbox.retry-max-delay-ms:300000}") long retryMaxDelayMs,
+                                        @Value("${notification.outbox.claim-lease-ms:300000}") long claimLeaseMs) {
+        this.outboxRepository = outboxRepository;
+        this.orderRepository = orderRepository;
+        this.notificationService = notificationService;
+        this.strategyFactory = strategyFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inFlight = new Semaphore(parallelism);
+        this.batchSize = batchSize;
+        this.claimLeaseMs = claimLeaseMs;
+        this.deadLetterStore = deadLetterStore;
+        this.retryPolicy = new RetryPolicy(maxAttempts, retryBaseDelayMs, retryMaxDelayMs);
+        for (NotificationType type : NotificationType.values()) {
+            String channel = type.name().toLowerCase();
+            sentCounters.put(type, Counter.builder("notification.outbox.dispatched")
+                    .tag("channel", channel).tag("outcome", "success").register(meterRegistry));
+            failedCounters.put(type, Counter.builder("notification.outbox.dispatched")
+                    .tag("channel", channel).tag("outcome", "failure").register(meterRegistry));
+            sendTimers.put(type, Timer.builder("notification.outbox.send")
+                    .tag("channel", channel).register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:500}")
+    public void poll() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+
+    /**
+     * Claims one batch of due entries, sends them and records the outcomes.
+     * @return number of due entries found, including those another dispatcher claimed first
+     */
+    public int dispatchBatch() {
+        LocalDateTime found = Order.now();
+        List<NotificationOutboxEntry> candidates = outboxRepository.findDue(found, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        UUID claim = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.claim(
+                candidates.stream().map(NotificationOutboxEntry::getId).collect(Collectors.toList()),
+                claim, found, found.plusNanos(claimLeaseMs * 1_000_000)));
+        List<NotificationOutboxEntry> due = outboxRepository.findByClaimedByOrderByIdAsc(claim);
+        if (due.isEmpty()) {
+            return candidates.size();
+        }
+        Map<UUID, Order> orders = orderRepository.findAllById(
+                        due.stream().map(NotificationOutboxEntry::getOrderId).distinct().collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        Queue<UUID> delivered = new ConcurrentLinkedQueue<>();
+        Queue<Map.Entry<NotificationOutboxEntry, Throwable>> failed = new ConcurrentLinkedQueue<>();
+        Queue<NotificationOutboxEntry> heldBack = new ConcurrentLinkedQueue<>();
+
+        // findDue returns entries oldest first, so each order's list is in the order they were recorded. An entry
+        // behind an older one that another dispatcher claimed must not overtake it; hand it back unsent
+        Map<UUID, NotificationOutboxEntry> claimed = due.stream()
+                .collect(Collectors.toMap(NotificationOutboxEntry::getId, Function.identity()));
+        Set<UUID> claimedElsewhere = new HashSet<>();
+        Map<UUID, List<NotificationOutboxEntry>> byOrder = new LinkedHashMap<>();
+        for (NotificationOutboxEntry candidate : candidates) {
+            NotificationOutboxEntry entry = claimed.get(candidate.getId());
+            if (entry == null) {
+                claimedElsewhere.add(candidate.getOrderId());
+            } else if (claimedElsewhere.contains(entry.getOrderId())) {
+                heldBack.add(entry);
+            } else {
+                byOrder.computeIfAbsent(entry.getOrderId(), ignored -> new ArrayList<>()).add(entry);
+            }
+        }
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>(byOrder.size());
+        for (Map.Entry<UUID, List<NotificationOutboxEntry>> group : byOrder.entrySet()) {
+            Order order = orders.get(group.getKey());
+            if (order == null) {
+                log.warn("Dropping {} outbox entries: order {} no longer exists", group.getValue().size(), group.getKey());
+                group.getValue().forEach(entry -> delivered.add(entry.getId()));
+                continue;
+            }
+            sends.add(submitInSequence(group.getValue(), order, delivered, failed, heldBack));
+        }
+        // Wait for the whole batch; outcomes are already captured in the queues
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture<?>[0])).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllByIdInBatch(new ArrayList<>(delivered));
+            // Rows whose lease ran out may belong to another batch by now; leave them to it
+            Set<UUID> stillClaimed = outboxRepository.findByClaimedByOrderByIdAsc(claim).stream()
+                    .map(NotificationOutboxEntry::getId).collect(Collectors.toSet());
+            boolean leaseLost = failed.removeIf(failure -> !stillClaimed.contains(failure.getKey().getId()));
+            leaseLost |= heldBack.removeIf(entry -> !stillClaimed.contains(entry.getId()));
+            if (leaseLost) {
+                log.warn("Outbox claim {} expired before its batch finished; outcomes of re-claimed rows were dropped", claim);
+            }
+            LocalDateTime now = Order.now();
+            List<NotificationOutboxEntry> rescheduled = new ArrayList<>(failed.size());
+            List<UUID> exhausted = new ArrayList<>();
+            Map<UUID, LocalDateTime> blockedUntil = new HashMap<>();
+            for (Map.Entry<NotificationOutboxEntry, Throwable> failure : failed) {
+                NotificationOutboxEntry entry = failure.getKey();
+                entry.setClaimedBy(null);
+                if (failure.getValue() instanceof NotificationRejectedException rejection) {
+                    entry.setNextAttemptAt(now.plusNanos(rejection.getRetryAfterMs() * 1_000_000));
+                    blockedUntil.put(entry.getOrderId(), entry.getNextAttemptAt());
+                    rescheduled.add(entry);
+                    continue;
+                }
+                int attempts = entry.getAttempts() + 1;
+                if (retryPolicy.canRetry(attempts)) {
+                    if (strategyFactory.getRetryBudget(entry.getNotificationType()).tryAcquireRetry()) {
+                        entry.setAttempts(attempts);
+                    } else {
+                        log.debug("{} retry budget exhausted, holding outbox entry {} without spending an attempt",
+                                entry.getNotificationType(), entry.getId());
+                    }
+                    entry.setNextAttemptAt(now.plusNanos(retryPolicy.backoffDelayMs(attempts) * 1_000_000));
+                    blockedUntil.put(entry.getOrderId(), entry.getNextAttemptAt());
+                    rescheduled.add(entry);
+                } else {
+                    deadLetterStore.record(orders.get(entry.getOrderId()), entry.getNotificationType(),
+                            entry.getOrderStatus(), null, attempts, failure.getValue());
+                    exhausted.add(entry.getId());
+                }
+            }
+            // Held entries become due together with the failed one ahead of them and sort after it by id;
+            // holding does not count as an attempt
+            for (NotificationOutboxEntry entry : heldBack) {
+                entry.setClaimedBy(null);
+                entry.setNextAttemptAt(blockedUntil.getOrDefault(entry.getOrderId(), now));
+                entry.setLastError("Waiting for an earlier notification of this order");
+                rescheduled.add(entry);
+            }
+            outboxRepository.saveAll(rescheduled);
+            outboxRepository.deleteAllByIdInBatch(exhausted);
+        });
+        log.debug("Outbox batch dispatched: {} delivered, {} failed, {} held back",
+                delivered.size(), failed.size(), heldBack.size());
+        return candidates.size();
+    }
+
+    /**
+     * Sends one order's entries one after another, stopping at the first failure; the entries after it are
+     * held back. The order holds one in-flight permit for the whole sequence.
+     * @return completes (never exceptionally) once the sequence has finished
+     */
+    private CompletableFuture<Boolean> submitInSequence(List<NotificationOutboxEntry> entries, Order order,
+                                                        Queue<UUID> delivered,
+                                                        Queue<Map.Entry<NotificationOutboxEntry, Throwable>> failed,
+                                                        Queue<NotificationOutboxEntry> heldBack) {
+        // Back-pressure: block the dispatcher rather than queueing more sends than we allow in flight
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<Boolean> sequence = CompletableFuture.completedFuture(true);
+        for (NotificationOutboxEntry entry : entries) {
+            sequence = sequence.thenCompose(previousDelivered -> {
+                if (!previousDelivered) {
+                    heldBack.add(entry);
+                    return CompletableFuture.completedFuture(false);
+                }
+                return submit(entry, order).handle((ignored, error) -> {
+                    if (error == null) {
+                        delivered.add(entry.getId());
+                        return true;
+                    }
+                    Throwable cause = unwrap(error);
+                    entry.setLastError(truncate(cause.getMessage()));
+                    failed.add(Map.entry(entry, cause));
+                    return false;
+                });
+            });
+        }
+        return sequence.whenComplete((ignored, error) -> inFlight.release());
+    }
+
+    private CompletableFuture<Void> submit(NotificationOutboxEntry entry, Order order) {
+        NotificationType type = entry.getNotificationType();
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<Void> delivery;
+        try {
+            delivery = notificationService.queueOrderNotification(order, type, entry.getOrderStatus());
+        } catch (RuntimeException e) {
+            delivery = CompletableFuture.failedFuture(e);
+        }
+        return delivery.whenComplete((ignored, error) -> {
+            sample.stop(sendTimers.get(type));
+            // a first attempt earns retry tokens only if it reached the provider
+            if (entry.getAttempts() == 0 && !(unwrap(error) instanceof NotificationRejectedException)) {
+                strategyFactory.getRetryBudget(type).recordAttempt();
+            }
+            if (error == null) {
+                sentCounters.get(type).increment();
+            } else {
+                failedCounters.get(type).increment();
+                log.warn("Outbox delivery of {} for order {} failed", type, order.getId(), error);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
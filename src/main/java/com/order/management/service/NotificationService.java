@@ -1,28 +1,59 @@
 package com.order.management.service;
 
+import com.order.management.model.NotificationOutboxEntry;
 import com.order.management.model.NotificationType;
 import com.order.management.model.Order;
 import com.order.management.model.OrderStatus;
+import com.order.management.notification.NotificationEnvelope;
 import com.order.management.notification.NotificationMessageBuilder;
 import com.order.management.notification.NotificationStrategy;
 import com.order.management.notification.NotificationStrategyFactory;
-import org.springframework.scheduling.annotation.Async;
+import com.order.management.repository.NotificationOutboxRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class NotificationService {
 
     private final NotificationStrategyFactory notificationFactory;
     private final NotificationMessageBuilder messageBuilder;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationBatchAccumulator batchAccumulator;
 
 
     public NotificationService(NotificationStrategyFactory notificationFactory,
-                               NotificationMessageBuilder messageBuilder) {
+                               NotificationMessageBuilder messageBuilder,
+                               NotificationOutboxRepository outboxRepository,
+                               NotificationBatchAccumulator batchAccumulator) {
         this.notificationFactory = notificationFactory;
         this.messageBuilder = messageBuilder;
+        this.outboxRepository = outboxRepository;
+        this.batchAccumulator = batchAccumulator;
+    }
+
+    /**
+     * Records the notification in the outbox as part of the caller's transaction; delivery happens later
+     * through {@link NotificationOutboxDispatcher}.
+     */
+    public void enqueueOrderNotification(Order order, NotificationType type, OrderStatus status) {
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), type, status));
+    }
+
+    /**
+     * Bulk form of {@link #enqueueOrderNotification}: one outbox row per order, saved as a JDBC batch.
+     */
+    public void enqueueOrderNotifications(Collection<Order> orders, OrderStatus status) {
+        List<NotificationOutboxEntry> entries = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            entries.add(new NotificationOutboxEntry(order.getId(), order.getPreferredNotificationType(), status));
+        }
+        outboxRepository.saveAll(entries);
     }
 
-    @Async("notificationExecutor")
     public void sendOrderNotification(Order order, NotificationType type, OrderStatus status) {
 
         String message = messageBuilder.buildMessage(order, status, type);
@@ -32,5 +63,16 @@ public class NotificationService {
         strategy.send(order, message);
     }
 
+    /**
+     * Adds the notification to its channel's next micro-batch.
+     * @return completes once this particular message has been delivered or has failed
+     */
+    public CompletableFuture<Void> queueOrderNotification(Order order, NotificationType type, OrderStatus status) {
+
+        String message = messageBuilder.buildMessage(order, status, type);
+
+        return batchAccumulator.submit(type, new NotificationEnvelope(order, message));
+    }
+
 
 }
@@ -0,0 +1,168 @@
+package com.order.management.service;
+
+import com.order.management.dto.BatchItemResult;
+import com.order.management.dto.BatchOrderResponse;
+import com.order.management.dto.CreateOrderRequest;
+import com.order.management.exception.InvalidOrderBatchException;
+import com.order.management.model.Order;
+import com.order.management.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk order ingestion. Valid items are inserted in chunks, one transaction per chunk, so Hibernate
+ * can group the INSERTs into JDBC batches; each item gets its own success or failure result.
+ */
+@Slf4j
+@Service
+public class OrderBatchService {
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OrderBatchService(OrderRepository orderRepository,
+                             OrderService orderService,
+                             Validator validator,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.batch.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidOrderBatchException("Batch must contain at least one order");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidOrderBatchException("Batch size " + requests.size() + " exceeds maximum of " + MAX_BATCH_SIZE);
+        }
+        log.info("Creating batch of {} orders", requests.size());
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = failure(i, error);
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                persistChunk(requests, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(requests, chunk, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BatchItemResult::isSuccess).count();
+        log.info("Batch completed: {} succeeded, {} failed", succeeded, results.length - succeeded);
+        return BatchOrderResponse.builder()
+                .total(results.length)
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void persistChunk(List<CreateOrderRequest> requests, List<Integer> indexes, BatchItemResult[] results) {
+        List<Order> orders = indexes.stream().map(i -> toOrder(requests.get(i))).collect(Collectors.toList());
+        try {
+            insert(orders);
+        } catch (RuntimeException e) {
+            log.warn("Batch chunk of {} orders failed, retrying items individually", orders.size(), e);
+            for (Integer index : indexes) {
+                persistSingle(index, requests.get(index), results);
+            }
+            return;
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            results[indexes.get(i)] = success(indexes.get(i), orders.get(i));
+        }
+    }
+
+    private void persistSingle(int index, CreateOrderRequest request, BatchItemResult[] results) {
+        Order order = toOrder(request);
+        try {
+            insert(List.of(order));
+            results[index] = success(index, order);
+        } catch (RuntimeException e) {
+            results[index] = failure(index, e.getMessage());
+        }
+    }
+
+    private void insert(List<Order> orders) {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.saveAll(orders);
+            // Outbox rows for the notifications commit together with the orders
+            orders.forEach(order -> orderService.processOrder(OrderProcessingContext.created(order)));
+            orderRepository.flush();
+            // Keep the (possibly request-scoped) persistence context from growing across chunks
+            entityManager.clear();
+        });
+    }
+
+    private BatchItemResult success(int index, Order order) {
+        return BatchItemResult.builder()
+                .index(index)
+                .orderId(order.getId().toString())
+                .success(true)
+                .order(orderService.mapToResponse(order))
+                .build();
+    }
+
+    private BatchItemResult failure(int index, String error) {
+        return BatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private String validate(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order is required";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private Order toOrder(CreateOrderRequest request) {
+        Order order = new Order(request.getCustomerName(),
+                request.getCustomerEmail(),
+                request.getMobileNumber(),
+                request.getTotalAmount(),
+                request.getNotificationType());
+        order.setPreferredLocale(request.getLocale());
+        return order;
+    }
+}
@@ -0,0 +1,239 @@
+package com.order.management.service;
+
+import com.order.management.dto.BatchItemResult;
+import com.order.management.dto.BatchOrderResponse;
+import com.order.management.dto.BulkStatusUpdateRequest;
+import com.order.management.exception.InvalidOrderBatchException;
+import com.order.management.exception.InvalidOrderStatusTransitionException;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.observer.OrderStatusManager;
+import com.order.management.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves many orders to one status, e.g. marking a warehouse wave SHIPPED. Ids are processed in chunks,
+ * one transaction per chunk: the chunk's orders are read with one query, validated against the
+ * {@link OrderStateMachine}, moved with a compare-and-set UPDATE per order sent as one JDBC batch, whose
+ * per-row counts tell which orders a concurrent update got to first, and their notifications are written
+ * to the outbox as a single JDBC batch. A chunk's results are only reported once it commits; if it rolls back, its moves become
+ * failures while the orders it rejected keep their own error.
+ */
+@Slf4j
+@Service
+public class OrderBulkStatusService {
+    public static final int MAX_BULK_SIZE = 50_000;
+    private static final String COMPARE_AND_SET_STATUS_SQL =
+            "update orders set status = ?, updated_at = ?, version = version + 1 where id = ? and status = ?";
+
+    private final OrderRepository orderRepository;
+    private final NotificationService notificationService;
+    private final OrderStatusManager orderStatusManager;
+    private final OrderStateMachine stateMachine;
+    private final OrderCache orderCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OrderBulkStatusService(OrderRepository orderRepository,
+                                  NotificationService notificationService,
+                                  OrderStatusManager orderStatusManager,
+                                  OrderStateMachine stateMachine,
+                                  OrderCache orderCache,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${order.batch.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.notificationService = notificationService;
+        this.orderStatusManager = orderStatusManager;
+        this.stateMachine = stateMachine;
+        this.orderCache = orderCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchOrderResponse updateStatuses(BulkStatusUpdateRequest request) {
+        List<String> orderIds = request.getOrderIds();
+        OrderStatus target = request.getStatus();
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new InvalidOrderBatchException("Bulk update must contain at least one order id");
+        }
+        if (orderIds.size() > MAX_BULK_SIZE) {
+            throw new InvalidOrderBatchException("Bulk update size " + orderIds.size() + " exceeds maximum of " + MAX_BULK_SIZE);
+        }
+        if (target == null) {
+            throw new InvalidOrderBatchException("Target status is required");
+        }
+        log.info("Moving {} orders to {}", orderIds.size(), target);
+
+        BatchItemResult[] results = new BatchItemResult[orderIds.size()];
+        Set<UUID> seen = new HashSet<>();
+        Map<UUID, Integer> chunk = new LinkedHashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            String orderId = orderIds.get(i);
+            UUID id = parse(orderId);
+            if (id == null) {
+                results[i] = failure(i, orderId, "Order not found with ID: " + orderId);
+                continue;
+            }
+            if (!seen.add(id)) {
+                results[i] = failure(i, orderId, "Duplicate order id in request");
+                continue;
+            }
+            chunk.put(id, i);
+            if (chunk.size() == chunkSize) {
+                applyChunk(chunk, target, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, target, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BatchItemResult::isSuccess).count();
+        log.info("Bulk status update to {} completed: {} succeeded, {} failed", target, succeeded, results.length - succeeded);
+        return BatchOrderResponse.builder()
+                .total(results.length)
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void applyChunk(Map<UUID, Integer> chunk, OrderStatus target, BatchItemResult[] results) {
+        Map<Integer, BatchItemResult> outcomes = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> transition(chunk, target, outcomes));
+        } catch (RuntimeException e) {
+            log.warn("Bulk status chunk of {} orders failed", chunk.size(), e);
+            // The chunk rolled back, so nothing in it moved; rejections found before the failure still hold
+            chunk.forEach((id, index) -> {
+                BatchItemResult outcome = outcomes.get(index);
+                if (outcome == null || outcome.isSuccess()) {
+                    outcomes.put(index, failure(index, id.toString(), "Update failed: " + e.getMessage()));
+                }
+            });
+        }
+        outcomes.forEach((index, outcome) -> results[index] = outcome);
+    }
+
+    private void transition(Map<UUID, Integer> chunk, OrderStatus target, Map<Integer, BatchItemResult> outcomes) {
+        List<Order> movable = new ArrayList<>(chunk.size());
+        Set<UUID> found = new HashSet<>();
+        for (Order order : orderRepository.findAllById(chunk.keySet())) {
+            found.add(order.getId());
+            try {
+                stateMachine.validate(order, target);
+                movable.add(order);
+            } catch (InvalidOrderStatusTransitionException e) {
+                int index = chunk.get(order.getId());
+                outcomes.put(index, failure(index, order.getId().toString(), e.getMessage()));
+            }
+        }
+        chunk.forEach((id, index) -> {
+            if (!found.contains(id)) {
+                outcomes.put(index, failure(index, id.toString(), "Order not found with ID: " + id));
+            }
+        });
+
+        LocalDateTime updatedAt = Order.now();
+        int[] updated = compareAndSetStatuses(movable, target, updatedAt);
+        List<OrderProcessingContext> applied = new ArrayList<>();
+        for (int i = 0; i < movable.size(); i++) {
+            Order order = movable.get(i);
+            int index = chunk.get(order.getId());
+            OrderStatus previousStatus = order.getStatus();
+            if (updated[i] == 0) {
+                outcomes.put(index, failure(index, order.getId().toString(), "Order was changed concurrently"));
+                continue;
+            }
+            order.setStatus(target);
+            order.setUpdatedAt(updatedAt);
+            order.setVersion(order.getVersion() == null ? null : order.getVersion() + 1);
+            applied.add(OrderProcessingContext.statusChanged(order, previousStatus));
+            outcomes.put(index, BatchItemResult.builder()
+                    .index(index)
+                    .orderId(order.getId().toString())
+                    .success(true)
+                    .build());
+        }
+
+        notificationService.enqueueOrderNotifications(applied.stream().map(OrderProcessingContext::getOrder).toList(), target);
+        for (OrderProcessingContext context : applied) {
+            stateMachine.afterTransition(context.getOrder(), context.getPreviousStatus());
+            orderStatusManager.notifyObservers(context.getOrder(), context.getPreviousStatus().toString());
+            orderCache.invalidateAfterCommit(context.getOrder().getId());
+        }
+    }
+
+    /**
+     * Runs {@link OrderRepository#compareAndSetStatus} for every order in one JDBC batch. Like the
+     * repository method it bypasses the persistence context, which is cleared so the orders are detached.
+     * @return per order, 1 if it was moved and 0 if its status had changed in the meantime
+     */
+    private int[] compareAndSetStatuses(List<Order> orders, OrderStatus target, LocalDateTime updatedAt) {
+        if (orders.isEmpty()) {
+            return new int[0];
+        }
+        entityManager.flush();
+        int[] updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(COMPARE_AND_SET_STATUS_SQL)) {
+                for (Order order : orders) {
+                    statement.setString(1, target.name());
+                    statement.setObject(2, updatedAt);
+                    statement.setObject(3, order.getId());
+                    statement.setString(4, order.getStatus().name());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+        for (int count : updated) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("JDBC driver did not report per-row update counts");
+            }
+        }
+        return updated;
+    }
+
+    private static UUID parse(String orderId) {
+        if (orderId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(orderId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static BatchItemResult failure(int index, String orderId, String error) {
+        return BatchItemResult.builder()
+                .index(index)
+                .orderId(orderId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.order.management.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.order.management.dto.OrderResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link OrderResponse} by order id. Concurrent misses for the same id
+ * share one load, and an invalidation waits for an in-flight load of that id, so a value read before a
+ * committed update cannot be cached after it. Hit, miss and eviction counts are published as the
+ * {@code cache.*} metrics tagged {@code cache=orders}.
+ */
+@Slf4j
+@Component
+public class OrderCache {
+    private final Cache<UUID, OrderResponse> cache;
+
+    public OrderCache(MeterRegistry meterRegistry,
+                      @Value("${order.cache.enabled:true}") boolean enabled,
+                      @Value("${order.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${order.cache.ttl-ms:30000}") long ttlMs) {
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(Duration.ofMillis(ttlMs))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "orders");
+        } else {
+            this.cache = null;
+        }
+        log.info("Order cache {}", enabled ? "enabled (max " + maximumSize + ", ttl " + ttlMs + " ms)" : "disabled");
+    }
+
+    /**
+     * @param loader reads the order from the database; may return null, which is not cached
+     */
+    public OrderResponse get(UUID orderId, Function<UUID, OrderResponse> loader) {
+        return cache == null ? loader.apply(orderId) : cache.get(orderId, loader);
+    }
+
+    /**
+     * Drops the entry once the current transaction commits, or right away outside a transaction.
+     */
+    public void invalidateAfterCommit(UUID orderId) {
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // also on rollback: a load during the transaction may have read uncommitted state
+                cache.invalidate(orderId);
+            }
+        });
+    }
+}
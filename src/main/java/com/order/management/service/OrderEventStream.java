@@ -0,0 +1,321 @@
+package com.order.management.service;
+
+import com.order.management.dto.OrderStatusEvent;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.observer.ObserverDelivery;
+import com.order.management.observer.OrderStatusObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes order status changes to Server-Sent Events subscribers, so clients no longer have to poll for them.
+ * <p>
+ * Changes arrive as an asynchronous observer, after commit and in per-order sequence, and are numbered with a
+ * global event id. The last {@code order.events.replay-size} events are kept so a reconnecting client can send
+ * {@code Last-Event-ID} and pick up where it left off; if the events it missed are gone, or more of them match
+ * than its buffer holds, it is sent a {@code reset} event instead. Each subscriber has a bounded buffer drained by a small
+ * sender pool; a subscriber that falls {@code order.events.subscriber-buffer} events behind is disconnected
+ * instead of holding up the others. Idle subscribers hold no thread, only their connection.
+ */
+@Slf4j
+@Component
+public class OrderEventStream implements OrderStatusObserver {
+    static final String STATUS_EVENT = "status";
+    static final String RESET_EVENT = "reset";
+    private static final Object HEARTBEAT = new Object();
+
+    private final int replaySize;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final ExecutorService senders;
+    private final Counter evictions;
+    // Guards eventSequence, the replay buffer and subscriber registration so a new subscriber's replay and
+    // its live events neither overlap nor leave a gap
+    private final Object publishLock = new Object();
+    private final Deque<OrderStatusEvent> replay;
+    // Starts from the clock so ids keep increasing across restarts and a stale Last-Event-ID is detected
+    private long eventSequence = System.currentTimeMillis() * 1000;
+    private final Map<UUID, Set<Subscriber>> orderSubscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> filteredSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public OrderEventStream(MeterRegistry meterRegistry,
+                            @Value("${order.events.replay-size:10000}") int replaySize,
+                            @Value("${order.events.subscriber-buffer:256}") int bufferSize,
+                            @Value("${order.events.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                            @Value("${order.events.sender-threads:4}") int senderThreads) {
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.replay = new ArrayDeque<>(replaySize);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-events-sender-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictions = Counter.builder("order.events.evictions")
+                .description("Subscribers disconnected for falling too far behind")
+                .register(meterRegistry);
+        Gauge.builder("order.events.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    public ObserverDelivery delivery() {
+        return ObserverDelivery.ASYNC;
+    }
+
+    @Override
+    public void onOrderStatusChange(Order order, String previousStatus) {
+        List<Subscriber> evicted = new ArrayList<>();
+        synchronized (publishLock) {
+            OrderStatusEvent event = OrderStatusEvent.builder()
+                    .eventId(++eventSequence)
+                    .orderId(order.getId().toString())
+                    .previousStatus(OrderStatus.valueOf(previousStatus))
+                    .status(order.getStatus())
+                    .updatedAt(order.getUpdatedAt())
+                    .build();
+            if (replay.size() == replaySize) {
+                replay.pollFirst();
+            }
+            replay.addLast(event);
+            Set<Subscriber> forOrder = orderSubscribers.get(order.getId());
+            if (forOrder != null) {
+                for (Subscriber subscriber : forOrder) {
+                    if (!subscriber.offer(event)) {
+                        evicted.add(subscriber);
+                    }
+                }
+            }
+            for (Subscriber subscriber : filteredSubscribers) {
+                if (subscriber.matches(order.getId(), event.getStatus()) && !subscriber.offer(event)) {
+                    evicted.add(subscriber);
+                }
+            }
+        }
+        // Completing writes to the connection, so it must not hold up other publishers
+        evicted.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * @param orderIds orders to follow; empty for all orders
+     * @param statuses statuses to follow; empty for all statuses
+     * @param lastEventId the last event the client saw, or null for live events only
+     */
+    public SseEmitter subscribe(Set<UUID> orderIds, Set<OrderStatus> statuses, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        subscribe(emitter, orderIds, statuses, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, Set<UUID> orderIds, Set<OrderStatus> statuses, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(orderIds), Set.copyOf(statuses));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+        synchronized (publishLock) {
+            if (lastEventId != null) {
+                replayTo(subscriber, lastEventId);
+            }
+            if (subscriber.closed.get()) {
+                // The client went away before it was registered
+                return;
+            }
+            if (subscriber.orderIds.size() == 1 && subscriber.statuses.isEmpty()) {
+                orderSubscribers.computeIfAbsent(subscriber.orderIds.iterator().next(),
+                        id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            } else {
+                filteredSubscribers.add(subscriber);
+            }
+            subscriber.registered = true;
+            subscriberCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Queues the events after {@code lastEventId} that the subscriber follows, or a reset when they are no
+     * longer all available or would not fit its buffer. Called with the publish lock held; the new subscriber's
+     * buffer is empty and never overfilled here, so it cannot be evicted.
+     */
+    private void replayTo(Subscriber subscriber, long lastEventId) {
+        OrderStatusEvent oldest = replay.peekFirst();
+        boolean missedEvents = lastEventId < eventSequence
+                && (oldest == null || oldest.getEventId() > lastEventId + 1);
+        if (missedEvents || lastEventId > eventSequence) {
+            // Events the client missed are gone; tell it to reload state before following along
+            subscriber.offer(RESET_EVENT);
+            return;
+        }
+        List<OrderStatusEvent> missed = new ArrayList<>();
+        for (OrderStatusEvent event : replay) {
+            if (event.getEventId() > lastEventId
+                    && subscriber.matches(UUID.fromString(event.getOrderId()), event.getStatus())) {
+                missed.add(event);
+                if (missed.size() > bufferSize) {
+                    // Replaying would overflow the buffer and evict the subscriber straight away
+                    subscriber.offer(RESET_EVENT);
+                    return;
+                }
+            }
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    /**
+     * Keeps idle connections open through proxies and finds clients that have gone away.
+     */
+    @Scheduled(fixedDelayString = "${order.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        orderSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+        filteredSubscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Subscriber> all = new ArrayList<>(filteredSubscribers);
+        orderSubscribers.values().forEach(all::addAll);
+        all.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * @return whether this call closed the subscriber
+     */
+    private boolean unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        // Taken so a subscriber closed while subscribe() runs is either never registered or removed here
+        synchronized (publishLock) {
+            if (!subscriber.registered) {
+                return true;
+            }
+            subscriber.registered = false;
+            if (subscriber.orderIds.size() == 1 && subscriber.statuses.isEmpty()) {
+                orderSubscribers.computeIfPresent(subscriber.orderIds.iterator().next(), (id, subscribers) -> {
+                    subscribers.remove(subscriber);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            } else {
+                filteredSubscribers.remove(subscriber);
+            }
+            subscriberCount.decrementAndGet();
+        }
+        return true;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<UUID> orderIds;
+        private final Set<OrderStatus> statuses;
+        private final Queue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Guarded by publishLock
+        private boolean registered;
+
+        private Subscriber(SseEmitter emitter, Set<UUID> orderIds, Set<OrderStatus> statuses) {
+            this.emitter = emitter;
+            this.orderIds = orderIds;
+            this.statuses = statuses;
+        }
+
+        private boolean matches(UUID orderId, OrderStatus status) {
+            return (orderIds.isEmpty() || orderIds.contains(orderId))
+                    && (statuses.isEmpty() || statuses.contains(status));
+        }
+
+        /**
+         * @return false if the item overflowed the buffer and this call closed the subscriber; the caller then
+         * completes the emitter, once it no longer holds the publish lock
+         */
+        private boolean offer(Object item) {
+            if (closed.get()) {
+                return true;
+            }
+            if (!buffer.offer(item)) {
+                if (item == HEARTBEAT) {
+                    // Already has data on the way; no need to prove the connection is alive
+                    return true;
+                }
+                if (!unregister(this)) {
+                    return true;
+                }
+                evictions.increment();
+                log.info("Disconnecting event subscriber that fell {} events behind", bufferSize);
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                Object item;
+                while ((item = buffer.poll()) != null) {
+                    if (closed.get()) {
+                        buffer.clear();
+                        break;
+                    }
+                    try {
+                        send(item);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; the emitter's error callback may never fire for a dead socket
+                        unregister(this);
+                        emitter.completeWithError(e);
+                        buffer.clear();
+                        break;
+                    }
+                }
+                draining.set(false);
+                // Something may have been offered after the last poll but before the flag was cleared
+            } while (!buffer.isEmpty() && !closed.get() && draining.compareAndSet(false, true));
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } else if (item == RESET_EVENT) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data("Missed events are no longer available"));
+            } else {
+                OrderStatusEvent event = (OrderStatusEvent) item;
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.getEventId()))
+                        .name(STATUS_EVENT)
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+}
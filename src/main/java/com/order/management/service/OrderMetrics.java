@@ -0,0 +1,50 @@
+package com.order.management.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for the steps of order processing, registered once so recording on the request path is only a
+ * clock read and a histogram update.
+ */
+@Component
+public class OrderMetrics {
+
+    public enum Operation {
+        CREATE, STATUS_CHANGE
+    }
+
+    private final Map<Operation, Map<OrderProcessingTemplate.Phase, Timer>> phaseTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> persistTimers = new EnumMap<>(Operation.class);
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        for (Operation operation : Operation.values()) {
+            String operationTag = operation.name().toLowerCase().replace('_', '-');
+            Map<OrderProcessingTemplate.Phase, Timer> timers = new EnumMap<>(OrderProcessingTemplate.Phase.class);
+            for (OrderProcessingTemplate.Phase phase : OrderProcessingTemplate.Phase.values()) {
+                timers.put(phase, Timer.builder("order.processing.phase")
+                        .tag("operation", operationTag)
+                        .tag("phase", phase.name().toLowerCase().replace('_', '-'))
+                        .register(meterRegistry));
+            }
+            phaseTimers.put(operation, timers);
+            persistTimers.put(operation, Timer.builder("order.persistence")
+                    .description("Time spent writing the order")
+                    .tag("operation", operationTag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordPhase(Operation operation, OrderProcessingTemplate.Phase phase, long elapsedNanos) {
+        phaseTimers.get(operation).get(phase).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPersistence(Operation operation, long elapsedNanos) {
+        persistTimers.get(operation).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
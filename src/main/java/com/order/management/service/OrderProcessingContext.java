@@ -0,0 +1,30 @@
+package com.order.management.service;
+
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import lombok.Value;
+
+/**
+ * State of one pass through {@link OrderProcessingTemplate}. Built per call and passed down the steps,
+ * so the singleton services never hold request state.
+ */
+@Value
+public class OrderProcessingContext {
+    Order order;
+    /**
+     * Status before this change, or null for a newly created order.
+     */
+    OrderStatus previousStatus;
+
+    public static OrderProcessingContext created(Order order) {
+        return new OrderProcessingContext(order, null);
+    }
+
+    public static OrderProcessingContext statusChanged(Order order, OrderStatus previousStatus) {
+        return new OrderProcessingContext(order, previousStatus);
+    }
+
+    public boolean isStatusChange() {
+        return previousStatus != null;
+    }
+}
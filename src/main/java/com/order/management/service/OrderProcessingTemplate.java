@@ -6,21 +6,51 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class OrderProcessingTemplate {
 
-    public final void processOrder(Order order) {
+    public enum Phase {
+        VALIDATE, NOTIFY, AFTER_PROCESSING
+    }
+
+    /**
+     * Runs the processing steps for one order. Subclasses are shared singletons, so every step reads its
+     * state from the context rather than from fields.
+     * @param context
+     */
+    public final void processOrder(OrderProcessingContext context) {
+        Order order = context.getOrder();
         log.info("Starting order processing for order: {}", order.getId());
 
-        validateOrder(order);
-        notifyCustomer(order);
-        logOrderProcessing(order);
+        long start = System.nanoTime();
+        validateOrder(context);
+        long validated = System.nanoTime();
+        phaseCompleted(context, Phase.VALIDATE, validated - start);
+        notifyCustomer(context);
+        long notified = System.nanoTime();
+        phaseCompleted(context, Phase.NOTIFY, notified - validated);
+        logOrderProcessing(context);
+        afterProcessing(context);
+        phaseCompleted(context, Phase.AFTER_PROCESSING, System.nanoTime() - notified);
 
         log.info("Order processing completed for order: {}", order.getId());
     }
 
-    protected abstract void validateOrder(Order order);
+    protected abstract void validateOrder(OrderProcessingContext context);
+
+    protected abstract void notifyCustomer(OrderProcessingContext context);
 
-    protected abstract void notifyCustomer(Order order);
+    /**
+     * Hook run after the order has been processed; does nothing by default.
+     */
+    protected void afterProcessing(OrderProcessingContext context) {
+    }
+
+    /**
+     * Hook told how long each step took, for metrics; does nothing by default.
+     */
+    protected void phaseCompleted(OrderProcessingContext context, Phase phase, long elapsedNanos) {
+    }
 
-    private void logOrderProcessing(Order order) {
+    private void logOrderProcessing(OrderProcessingContext context) {
+        Order order = context.getOrder();
         log.info("Order {} processed. Status: {}, Amount: {}", 
                 order.getId(), order.getStatus(), order.getTotalAmount());
     }
@@ -1,9 +1,15 @@
 package com.order.management.service;
 
+import com.order.management.dto.AllowedStatusesResponse;
 import com.order.management.dto.CreateOrderRequest;
+import com.order.management.dto.OrderCursor;
+import com.order.management.dto.OrderPageResponse;
 import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderSearchCriteria;
+import com.order.management.dto.OrderStatsResponse;
 import com.order.management.dto.UpdateOrderStatusRequest;
-import com.order.management.exception.InvalidOrderStatusTransitionException;
+import com.order.management.exception.InvalidOrderQueryException;
+import com.order.management.exception.OrderConflictException;
 import com.order.management.exception.OrderNotFoundException;
 import com.order.management.model.Order;
 import com.order.management.model.OrderStatus;
@@ -12,20 +18,35 @@ import com.order.management.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService extends OrderProcessingTemplate {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_STATS_DAYS = 30;
+    public static final int MAX_STATS_DAYS = 366;
+    public static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+
     private final OrderRepository orderRepository;
     private final NotificationService notificationService;
     private final OrderStatusManager orderStatusManager;
-
-    private Order currentOrder;
-    private String previousStatus;
+    private final OrderCache orderCache;
+    private final OrderStateMachine stateMachine;
+    private final OrderStatistics orderStatistics;
+    private final OrderMetrics orderMetrics;
     private static final Logger log = LoggerFactory.getLogger(OrderProcessingTemplate.class);
 
     /**
@@ -33,6 +54,7 @@ public class OrderService extends OrderProcessingTemplate {
      * @param request
      * @return
      */
+    @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating new order for customer: {}", request.getCustomerName());
 
@@ -41,75 +63,206 @@ public class OrderService extends OrderProcessingTemplate {
                                request.getMobileNumber(),
                                request.getTotalAmount(),
                                request.getNotificationType());
+        order.setPreferredLocale(request.getLocale());
 
+        long persistStart = System.nanoTime();
         Order savedOrder = orderRepository.save(order);
+        orderMetrics.recordPersistence(OrderMetrics.Operation.CREATE, System.nanoTime() - persistStart);
 
         // Use template method for order processing
-        this.currentOrder = savedOrder;
-        processOrder(savedOrder);
+        processOrder(OrderProcessingContext.created(savedOrder));
 
         log.info("Order created successfully with ID: {}", savedOrder.getId());
         return mapToResponse(savedOrder);
     }
 
+    /**
+     * Serves the order from {@link OrderCache}, reading it from the database on a miss. Not transactional:
+     * a hit needs no connection, and the miss loader runs in its own read-only transaction
+     * @param orderId
+     * @return
+     */
     public OrderResponse getOrder(String orderId) {
         log.info("Fetching order: {}", orderId);
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
-        return mapToResponse(order);
+        OrderResponse order = orderCache.get(toOrderId(orderId),
+                id -> orderRepository.findResponseById(id).orElse(null));
+        if (order == null) {
+            throw new OrderNotFoundException("Order not found with ID: " + orderId);
+        }
+        return order;
+    }
+
+    /**
+     * Statuses the order may move to next according to the transition table
+     * @param orderId
+     * @return
+     */
+    public AllowedStatusesResponse getAllowedStatuses(String orderId) {
+        OrderResponse order = getOrder(orderId);
+        return AllowedStatusesResponse.builder()
+                .orderId(order.getId())
+                .status(order.getStatus())
+                .allowedStatuses(stateMachine.allowedNextStates(order.getStatus()))
+                .build();
+    }
+
+    public Map<OrderStatus, Set<OrderStatus>> getStatusTransitions() {
+        return stateMachine.getTransitions();
+    }
+
+    /**
+     * Returns one keyset page of orders ordered by (createdAt, id)
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit requested page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        log.info("Fetching orders page of size {}", pageSize);
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<OrderResponse> orders;
+        if (cursor == null || cursor.isEmpty()) {
+            orders = orderRepository.findFirstPage(page);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderRepository.findPageAfter(position.getCreatedAt(), position.getId(), page);
+        }
+        return toPage(orders, pageSize);
+    }
+
+    /**
+     * Keyset-paginated search over the indexed filters; rows are projected into responses without
+     * loading entities
+     * @param criteria filters, null fields are ignored
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit requested page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse searchOrders(OrderSearchCriteria criteria, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (criteria.getCreatedFrom() != null && criteria.getCreatedTo() != null
+                && !criteria.getCreatedFrom().isBefore(criteria.getCreatedTo())) {
+            throw new InvalidOrderQueryException("createdFrom must be before createdTo");
+        }
+        log.info("Searching orders by {} with page size {}", criteria, pageSize);
+
+        OrderCursor after = cursor == null || cursor.isEmpty() ? null : OrderCursor.decode(cursor);
+        // Fetch one extra row to know whether another page exists
+        return toPage(orderRepository.search(criteria, after, pageSize + 1), pageSize);
     }
 
-    public List<OrderResponse> getAllOrders() {
-        log.info("Fetching all orders");
-        return orderRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Order counts and revenue from the in-memory counters; does not query the database
+     * @param days number of most recent creation days to break down, capped at {@link #MAX_STATS_DAYS}
+     * @return
+     */
+    public OrderStatsResponse getOrderStats(Integer days) {
+        int dayCount = days == null ? DEFAULT_STATS_DAYS : Math.max(0, Math.min(days, MAX_STATS_DAYS));
+        return orderStatistics.snapshot(dayCount);
     }
 
+    /**
+     * @param orders up to {@code pageSize + 1} rows; the extra row only signals that another page exists
+     */
+    private OrderPageResponse toPage(List<OrderResponse> orders, int pageSize) {
+        boolean hasMore = orders.size() > pageSize;
+        List<OrderResponse> items = hasMore ? orders.subList(0, pageSize) : orders;
+        String nextCursor = null;
+        if (hasMore) {
+            OrderResponse last = items.get(items.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), UUID.fromString(last.getId())).encode();
+        }
+
+        return OrderPageResponse.builder()
+                .items(new ArrayList<>(items))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Streams every order to the sink through a forward-only cursor. Rows are projected into responses,
+     * so the persistence context stays empty however large the table is.
+     * @param sink
+     */
+    @Transactional(readOnly = true)
+    public void streamAllOrders(Consumer<OrderResponse> sink) {
+        log.info("Streaming all orders");
+        try (Stream<OrderResponse> orders = orderRepository.streamAll()) {
+            orders.forEach(sink);
+        }
+    }
+
+    /**
+     * Applies the transition with a compare-and-set on the current status, so two concurrent updates
+     * cannot both pass validation and overwrite each other. A lost race is retried against the fresh
+     * status up to {@link #MAX_STATUS_UPDATE_ATTEMPTS} times; if the transition is no longer valid, or
+     * the attempts run out, the update fails with {@link OrderConflictException}.
+     * @param orderId
+     * @param request
+     * @return
+     */
+    @Transactional
     public OrderResponse updateOrderStatus(String orderId, UpdateOrderStatusRequest request) {
         log.info("Updating order status for order: {} to {}", orderId, request.getStatus());
+        UUID id = toOrderId(orderId);
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
-
-        validateStatusTransition(order.getStatus(), request.getStatus());
-        
-        this.previousStatus = order.getStatus().toString();
-        order.setStatus(request.getStatus());
-        order.setUpdatedAt(java.time.LocalDateTime.now());
+        Order order = null;
+        OrderStatus previousStatus = null;
+        for (int attempt = 1; attempt <= MAX_STATUS_UPDATE_ATTEMPTS; attempt++) {
+            order = orderRepository.findById(id)
+                    .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
+            previousStatus = order.getStatus();
+            if (attempt > 1 && !stateMachine.isAllowed(previousStatus, request.getStatus())) {
+                throw new OrderConflictException("Order " + orderId + " was concurrently changed to " + previousStatus);
+            }
+            stateMachine.validate(order, request.getStatus());
 
-        Order updatedOrder = orderRepository.save(order);
+            LocalDateTime updatedAt = Order.now();
+            long persistStart = System.nanoTime();
+            int updated = orderRepository.compareAndSetStatus(id, previousStatus, request.getStatus(), updatedAt);
+            orderMetrics.recordPersistence(OrderMetrics.Operation.STATUS_CHANGE, System.nanoTime() - persistStart);
+            if (updated == 1) {
+                order.setStatus(request.getStatus());
+                order.setUpdatedAt(updatedAt);
+                order.setVersion(order.getVersion() == null ? null : order.getVersion() + 1);
+                break;
+            }
+            log.warn("Status update of order {} lost a race on attempt {}", orderId, attempt);
+            order = null;
+        }
+        if (order == null) {
+            throw new OrderConflictException("Order " + orderId + " is being updated concurrently, please retry");
+        }
 
-        // Use template method for order processing
-        this.currentOrder = updatedOrder;
-        processOrder(updatedOrder);
+        Order updatedOrder = order;
+        orderCache.invalidateAfterCommit(updatedOrder.getId());
 
-        // Notify observers about status change
-        orderStatusManager.notifyObservers(updatedOrder, previousStatus);
+        // Use template method for order processing; observers are notified from afterProcessing
+        processOrder(OrderProcessingContext.statusChanged(updatedOrder, previousStatus));
 
         log.info("Order status updated successfully");
         return mapToResponse(updatedOrder);
     }
 
-    private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
-        if (currentStatus == OrderStatus.CREATED) {
-            if (newStatus != OrderStatus.SHIPPED && newStatus != OrderStatus.COMPLETED && newStatus != OrderStatus.CANCELLED) {
-                throw new InvalidOrderStatusTransitionException(
-                        "Invalid transition from " + currentStatus + " to " + newStatus);
-            }
-        } else if (currentStatus == OrderStatus.SHIPPED) {
-            if (newStatus != OrderStatus.COMPLETED && newStatus != OrderStatus.CANCELLED) {
-                throw new InvalidOrderStatusTransitionException(
-                        "Invalid transition from " + currentStatus + " to " + newStatus);
-            }
-        } else if (currentStatus == OrderStatus.COMPLETED || currentStatus == OrderStatus.CANCELLED) {
-            throw new InvalidOrderStatusTransitionException(
-                    "Cannot transition from terminal status " + currentStatus);
+    /**
+     * Order ids are UUIDs; anything that does not parse as one cannot exist.
+     */
+    private UUID toOrderId(String orderId) {
+        try {
+            return UUID.fromString(orderId);
+        } catch (IllegalArgumentException e) {
+            throw new OrderNotFoundException("Order not found with ID: " + orderId, e);
         }
     }
 
     @Override
-    protected void validateOrder(Order order) {
+    protected void validateOrder(OrderProcessingContext context) {
+        Order order = context.getOrder();
         log.info("Validating order: {}", order.getId());
         if (order.getTotalAmount().signum() <= 0) {
             throw new IllegalArgumentException("Order amount must be positive");
@@ -117,21 +270,37 @@ public class OrderService extends OrderProcessingTemplate {
     }
 
     @Override
-    protected void notifyCustomer(Order order) {
+    protected void notifyCustomer(OrderProcessingContext context) {
+        Order order = context.getOrder();
         log.info("Notifying customer for order: {}", order.getId());
 
-        notificationService.sendOrderNotification(
+        notificationService.enqueueOrderNotification(
                 order,
                 order.getPreferredNotificationType(),
                 order.getStatus()
         );
+    }
 
+    @Override
+    protected void afterProcessing(OrderProcessingContext context) {
+        if (context.isStatusChange()) {
+            stateMachine.afterTransition(context.getOrder(), context.getPreviousStatus());
+            // Notify observers about status change
+            orderStatusManager.notifyObservers(context.getOrder(), context.getPreviousStatus().toString());
+        } else {
+            orderStatistics.recordCreated(context.getOrder());
+        }
+    }
 
+    @Override
+    protected void phaseCompleted(OrderProcessingContext context, Phase phase, long elapsedNanos) {
+        orderMetrics.recordPhase(context.isStatusChange() ? OrderMetrics.Operation.STATUS_CHANGE
+                : OrderMetrics.Operation.CREATE, phase, elapsedNanos);
     }
 
-    private OrderResponse mapToResponse(Order order) {
+    OrderResponse mapToResponse(Order order) {
         return OrderResponse.builder()
-                .id(order.getId())
+                .id(order.getId().toString())
                 .customerName(order.getCustomerName())
                 .customerEmail(order.getCustomerEmail())
                 .mobileNumber(order.getMobileNumber())
@@ -0,0 +1,144 @@
+package com.order.management.service;
+
+import com.order.management.exception.InvalidOrderStatusTransitionException;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputed order status transition table. Allowed moves are a bitmask per source status, and the
+ * guards, hooks and rejection messages of every (from, to) pair are resolved when the machine is built,
+ * so checking a transition is an array lookup that allocates nothing unless it fails.
+ */
+public final class OrderStateMachine {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final OrderTransitionGuard[] NO_GUARDS = new OrderTransitionGuard[0];
+    private static final OrderTransitionHook[] NO_HOOKS = new OrderTransitionHook[0];
+
+    private final long[] allowed;
+    private final OrderTransitionGuard[][][] guards;
+    private final OrderTransitionHook[][][] hooks;
+    private final String[][] rejections;
+    private final Map<OrderStatus, Set<OrderStatus>> nextStates;
+
+    private OrderStateMachine(long[] allowed, List<OrderTransitionGuard> guardList, List<OrderTransitionHook> hookList) {
+        int size = STATUSES.length;
+        this.allowed = allowed;
+        this.guards = new OrderTransitionGuard[size][size][];
+        this.hooks = new OrderTransitionHook[size][size][];
+        this.rejections = new String[size][size];
+        Map<OrderStatus, Set<OrderStatus>> next = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus from : STATUSES) {
+            EnumSet<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus to : STATUSES) {
+                int f = from.ordinal();
+                int t = to.ordinal();
+                if (isAllowed(from, to)) {
+                    targets.add(to);
+                }
+                guards[f][t] = guardList.stream().filter(guard -> guard.appliesTo(from, to)).toArray(OrderTransitionGuard[]::new);
+                hooks[f][t] = hookList.stream().filter(hook -> hook.appliesTo(from, to)).toArray(OrderTransitionHook[]::new);
+                if (guards[f][t].length == 0) {
+                    guards[f][t] = NO_GUARDS;
+                }
+                if (hooks[f][t].length == 0) {
+                    hooks[f][t] = NO_HOOKS;
+                }
+                rejections[f][t] = allowed[f] == 0
+                        ? "Cannot transition from terminal status " + from
+                        : "Invalid transition from " + from + " to " + to;
+            }
+            next.put(from, Collections.unmodifiableSet(targets));
+        }
+        this.nextStates = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * The order lifecycle: CREATED may be shipped, completed or cancelled; SHIPPED may be completed or
+     * cancelled; COMPLETED and CANCELLED are terminal.
+     */
+    public static Builder standardTransitions() {
+        return new Builder()
+                .allow(OrderStatus.CREATED, OrderStatus.SHIPPED, OrderStatus.COMPLETED, OrderStatus.CANCELLED)
+                .allow(OrderStatus.SHIPPED, OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+    }
+
+    public static OrderStateMachine standard() {
+        return standardTransitions().build();
+    }
+
+    public boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return (allowed[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * Checks the transition table, then the guards bound to this transition.
+     * @throws InvalidOrderStatusTransitionException if either rejects the move
+     */
+    public void validate(Order order, OrderStatus to) {
+        OrderStatus from = order.getStatus();
+        if (!isAllowed(from, to)) {
+            throw new InvalidOrderStatusTransitionException(rejections[from.ordinal()][to.ordinal()]);
+        }
+        for (OrderTransitionGuard guard : guards[from.ordinal()][to.ordinal()]) {
+            String reason = guard.reject(order, to);
+            if (reason != null) {
+                throw new InvalidOrderStatusTransitionException(reason);
+            }
+        }
+    }
+
+    /**
+     * Runs the hooks bound to the transition the order just made from {@code previousStatus}.
+     */
+    public void afterTransition(Order order, OrderStatus previousStatus) {
+        for (OrderTransitionHook hook : hooks[previousStatus.ordinal()][order.getStatus().ordinal()]) {
+            hook.afterTransition(order, previousStatus);
+        }
+    }
+
+    /**
+     * @return the statuses the table allows after {@code from}; guards may still reject a specific order
+     */
+    public Set<OrderStatus> allowedNextStates(OrderStatus from) {
+        return nextStates.get(from);
+    }
+
+    public Map<OrderStatus, Set<OrderStatus>> getTransitions() {
+        return nextStates;
+    }
+
+    public static class Builder {
+        private final long[] allowed = new long[STATUSES.length];
+        private final List<OrderTransitionGuard> guards = new ArrayList<>();
+        private final List<OrderTransitionHook> hooks = new ArrayList<>();
+
+        public Builder allow(OrderStatus from, OrderStatus... targets) {
+            for (OrderStatus to : targets) {
+                allowed[from.ordinal()] |= 1L << to.ordinal();
+            }
+            return this;
+        }
+
+        public Builder guards(List<OrderTransitionGuard> guards) {
+            this.guards.addAll(guards);
+            return this;
+        }
+
+        public Builder hooks(List<OrderTransitionHook> hooks) {
+            this.hooks.addAll(hooks);
+            return this;
+        }
+
+        public OrderStateMachine build() {
+            return new OrderStateMachine(allowed.clone(), List.copyOf(guards), List.copyOf(hooks));
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.order.management.service;
+
+import com.order.management.dto.OrderStatsResponse;
+import com.order.management.dto.OrderStatsRow;
+import com.order.management.dto.OrderStatusRow;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.observer.OrderStatusObserver;
+import com.order.management.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Order counts and revenue by status and by creation day, kept in {@link LongAdder}s so that reading
+ * them costs the same however large the table is. Seeded from one aggregate query at startup, updated
+ * as orders are created and change status (once their transaction commits), and rebuilt from the
+ * database every {@code order.stats.reconcile-interval-ms}, which also repairs changes whose commit
+ * callback never ran. Revenue is counted in minor units (cents).
+ */
+@Slf4j
+@Component
+public class OrderStatistics implements OrderStatusObserver {
+    private static final int REVENUE_SCALE = 2;
+    private static final int STATUS_LOOKUP_CHUNK = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate snapshotTransaction;
+    // Guards the swap to freshly reconciled counters; recording takes the shared side
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters();
+    private volatile LocalDateTime reconciledAt;
+    private Queue<Delta> journal;
+
+    public OrderStatistics(OrderRepository orderRepository, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setReadOnly(true);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the counters from the database. Changes recorded while the rebuild runs are journaled;
+     * only those the aggregate query did not see are replayed onto the new counters before they replace
+     * the old ones, so a change committed just before the query is not counted twice.
+     */
+    @Scheduled(initialDelayString = "${order.stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${order.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        swapLock.writeLock().lock();
+        try {
+            journal = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Counters fresh;
+        try {
+            fresh = snapshotTransaction.execute(status -> rebuild());
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            journal = null;
+            swapLock.writeLock().unlock();
+            throw e;
+        }
+        log.info("Order statistics reconciled: {} orders", fresh.totalCount());
+    }
+
+    /**
+     * Runs in one REPEATABLE READ transaction, so the aggregate and the status lookup of journaled orders
+     * read the same snapshot.
+     */
+    private Counters rebuild() {
+        Counters fresh = new Counters();
+        for (OrderStatsRow row : orderRepository.aggregateStats()) {
+            fresh.add(row.getStatus(), row.getDay(), row.getCount(), toCents(row.getRevenue()));
+        }
+
+        // Recording waits for the swap, so nothing journaled after the lookup can be missed
+        swapLock.writeLock().lock();
+        try {
+            replayUnseen(journal, fresh);
+            journal = null;
+            counters = fresh;
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return fresh;
+    }
+
+    /**
+     * Applies the journaled changes the snapshot does not include. An order's journaled changes up to the
+     * one that produced its snapshot status are already counted; statuses only move forward, so that
+     * change is unambiguous. An order missing from the snapshot was created after it.
+     */
+    private void replayUnseen(Queue<Delta> journaled, Counters fresh) {
+        Map<UUID, List<Delta>> byOrder = new LinkedHashMap<>();
+        journaled.forEach(delta -> byOrder.computeIfAbsent(delta.orderId(), ignored -> new ArrayList<>()).add(delta));
+        List<UUID> ids = new ArrayList<>(byOrder.keySet());
+        Map<UUID, OrderStatus> snapshotStatuses = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += STATUS_LOOKUP_CHUNK) {
+            for (OrderStatusRow row : orderRepository.findStatuses(
+                    ids.subList(from, Math.min(ids.size(), from + STATUS_LOOKUP_CHUNK)))) {
+                snapshotStatuses.put(row.getId(), row.getStatus());
+            }
+        }
+        byOrder.forEach((id, deltas) -> {
+            OrderStatus seen = snapshotStatuses.get(id);
+            int counted = 0;
+            for (int i = 0; i < deltas.size(); i++) {
+                if (deltas.get(i).to() == seen) {
+                    counted = i + 1;
+                }
+            }
+            deltas.subList(counted, deltas.size()).forEach(delta -> delta.applyTo(fresh));
+        });
+    }
+
+    /**
+     * Counts a newly created order once the creating transaction commits.
+     */
+    public void recordCreated(Order order) {
+        afterCommit(new Delta(order.getId(), null, order.getStatus(), order.getCreatedAt().toLocalDate(),
+                toCents(order.getTotalAmount())));
+    }
+
+    @Override
+    public void onOrderStatusChange(Order order, String previousStatus) {
+        afterCommit(new Delta(order.getId(), OrderStatus.valueOf(previousStatus), order.getStatus(), null,
+                toCents(order.getTotalAmount())));
+    }
+
+    /**
+     * @param days number of most recent creation days to include
+     */
+    public OrderStatsResponse snapshot(int days) {
+        Counters current = counters;
+        Map<OrderStatus, OrderStatsResponse.Bucket> byStatus = new EnumMap<>(OrderStatus.class);
+        long totalCount = 0;
+        long totalCents = 0;
+        for (OrderStatus status : OrderStatus.values()) {
+            long count = current.statusCounts.get(status).sum();
+            long cents = current.statusRevenue.get(status).sum();
+            byStatus.put(status, new OrderStatsResponse.Bucket(count, fromCents(cents)));
+            totalCount += count;
+            totalCents += cents;
+        }
+        Map<LocalDate, OrderStatsResponse.Bucket> byDay = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < days; i++) {
+            LocalDate day = today.minusDays(i);
+            DayCounters dayCounters = current.days.get(day);
+            if (dayCounters != null) {
+                byDay.put(day, new OrderStatsResponse.Bucket(dayCounters.count.sum(), fromCents(dayCounters.revenue.sum())));
+            }
+        }
+        return OrderStatsResponse.builder()
+                .totalOrders(totalCount)
+                .totalRevenue(fromCents(totalCents))
+                .byStatus(byStatus)
+                .byDay(byDay)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private void afterCommit(Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(delta);
+            }
+        });
+    }
+
+    private void record(Delta delta) {
+        swapLock.readLock().lock();
+        try {
+            delta.applyTo(counters);
+            if (journal != null) {
+                journal.add(delta);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(REVENUE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, REVENUE_SCALE);
+    }
+
+    /**
+     * One recorded change: a creation (no previous status, counted on {@code day}) or a status move.
+     */
+    private record Delta(UUID orderId, OrderStatus from, OrderStatus to, LocalDate day, long cents) {
+        void applyTo(Counters target) {
+            if (from != null) {
+                target.statusCounts.get(from).decrement();
+                target.statusRevenue.get(from).add(-cents);
+                target.statusCounts.get(to).increment();
+                target.statusRevenue.get(to).add(cents);
+            } else {
+                target.add(to, day, 1, cents);
+            }
+        }
+    }
+
+    private static class Counters {
+        private final Map<OrderStatus, LongAdder> statusCounts = new EnumMap<>(OrderStatus.class);
+        private final Map<OrderStatus, LongAdder> statusRevenue = new EnumMap<>(OrderStatus.class);
+        private final Map<LocalDate, DayCounters> days = new ConcurrentHashMap<>();
+
+        Counters() {
+            for (OrderStatus status : OrderStatus.values()) {
+                statusCounts.put(status, new LongAdder());
+                statusRevenue.put(status, new LongAdder());
+            }
+        }
+
+        void add(OrderStatus status, LocalDate day, long count, long cents) {
+            statusCounts.get(status).add(count);
+            statusRevenue.get(status).add(cents);
+            DayCounters dayCounters = days.computeIfAbsent(day, ignored -> new DayCounters());
+            dayCounters.count.add(count);
+            dayCounters.revenue.add(cents);
+        }
+
+        long totalCount() {
+            return statusCounts.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+
+    private static class DayCounters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+    }
+}
@@ -0,0 +1,20 @@
+package com.order.management.service;
+
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+
+/**
+ * Extra condition on status transitions, checked after the transition table allows the move.
+ * Guards declared as beans are bound to their transitions once, when the {@link OrderStateMachine} is built.
+ */
+public interface OrderTransitionGuard {
+
+    default boolean appliesTo(OrderStatus from, OrderStatus to) {
+        return true;
+    }
+
+    /**
+     * @return null to allow the transition, otherwise the reason it is rejected
+     */
+    String reject(Order order, OrderStatus target);
+}
@@ -0,0 +1,17 @@
+package com.order.management.service;
+
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+
+/**
+ * Side effect run after a status transition has been applied, inside the updating transaction.
+ * Hooks declared as beans are bound to their transitions once, when the {@link OrderStateMachine} is built.
+ */
+public interface OrderTransitionHook {
+
+    default boolean appliesTo(OrderStatus from, OrderStatus to) {
+        return true;
+    }
+
+    void afterTransition(Order order, OrderStatus previousStatus);
+}
@@ -0,0 +1,162 @@
+package com.order.management.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedExecutorTest {
+
+    private ShardedExecutor executor;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown(5000);
+        }
+    }
+
+    /**
+     * Many producers publish numbered events for overlapping keys at once; every key must see its events
+     * in exactly the order its producer published them, with none lost or run concurrently.
+     */
+    @Test
+    public void testExecute_PreservesPerKeyOrderUnderContention() throws Exception {
+        int producers = 8;
+        int keysPerProducer = 100;
+        int eventsPerKey = 200;
+        executor = new ShardedExecutor("test", 4, producers * keysPerProducer * eventsPerKey);
+        ConcurrentHashMap<String, int[]> lastSeen = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicInteger overlapping = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * keysPerProducer * eventsPerKey);
+
+        ExecutorService producerPool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> published = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            published.add(producerPool.submit(() -> {
+                start.await();
+                for (int event = 0; event < eventsPerKey; event++) {
+                    for (int k = 0; k < keysPerProducer; k++) {
+                        String key = producer + ":" + k;
+                        int sequence = event;
+                        assertTrue(executor.execute(key, () -> {
+                            // [last sequence seen, tasks currently running for the key]
+                            int[] state = lastSeen.computeIfAbsent(key, ignored -> new int[]{-1, 0});
+                            if (++state[1] != 1) {
+                                overlapping.incrementAndGet();
+                            }
+                            if (state[0] != sequence - 1) {
+                                outOfOrder.incrementAndGet();
+                            }
+                            state[0] = sequence;
+                            state[1]--;
+                            done.countDown();
+                        }));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : published) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        producerPool.shutdown();
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(0, outOfOrder.get());
+        assertEquals(0, overlapping.get());
+        assertEquals(producers * keysPerProducer, lastSeen.size());
+        lastSeen.values().forEach(state -> assertEquals(eventsPerKey - 1, state[0]));
+    }
+
+    @Test
+    public void testExecute_RejectsWhenLaneIsFull() throws InterruptedException {
+        executor = new ShardedExecutor("test", 1, 2);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertTrue(executor.execute("key", () -> {
+            running.countDown();
+            awaitQuietly(release);
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.execute("key", () -> { }));
+        assertTrue(executor.execute("key", () -> { }));
+        assertFalse(executor.execute("key", () -> { }));
+        assertEquals(2, executor.getQueueDepth());
+
+        release.countDown();
+        assertTrue(executor.shutdown(5000));
+        assertEquals(0, executor.getQueueDepth());
+        assertFalse(executor.execute("key", () -> { }));
+    }
+
+    /**
+     * Producers keep submitting while the executor shuts down; every task that was accepted must still run.
+     */
+    @Test
+    public void testExecute_AcceptedTasksRunWhenRacingShutdown() throws Exception {
+        ExecutorService producerPool = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                ShardedExecutor racing = new ShardedExecutor("test", 1, 1_000_000);
+                AtomicInteger accepted = new AtomicInteger();
+                AtomicInteger ran = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> producers = new ArrayList<>();
+                for (int p = 0; p < 4; p++) {
+                    producers.add(producerPool.submit(() -> {
+                        start.await();
+                        while (racing.execute("key", ran::incrementAndGet)) {
+                            accepted.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                assertTrue(racing.shutdown(5000));
+                for (Future<?> producer : producers) {
+                    producer.get(5, TimeUnit.SECONDS);
+                }
+                assertEquals(accepted.get(), ran.get());
+            }
+        } finally {
+            producerPool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecute_FailingTaskDoesNotStopTheLane() throws InterruptedException {
+        executor = new ShardedExecutor("test", 1, 16);
+        CountDownLatch after = new CountDownLatch(1);
+
+        executor.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("key", after::countDown);
+
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.order.management.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIdGeneratorTest {
+
+    @Test
+    void testNext_IsVersion7AndStrictlyIncreasing() {
+        UUID previous = OrderIdGenerator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = OrderIdGenerator.next();
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testNext_UniqueUnderContention() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(OrderIdGenerator.next());
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
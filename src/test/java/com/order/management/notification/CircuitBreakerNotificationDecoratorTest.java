@@ -0,0 +1,93 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerNotificationDecoratorTest {
+
+    private boolean providerDown;
+    private int providerCalls;
+
+    @Test
+    void testSend_FailsFastWhileOpen() {
+        CircuitBreakerNotificationDecorator guard = decorator(new AdaptiveConcurrencyLimit(10, 1, 10, 1000, 0.5));
+        providerDown = true;
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.send(new Order(), "message"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> guard.send(new Order(), "message"));
+
+        assertEquals("Circuit breaker open for channel: SMS", error.getMessage());
+        assertEquals(2, providerCalls);
+        assertEquals(0, guard.getConcurrencyLimit().getInFlight());
+    }
+
+    @Test
+    void testSend_FailuresShrinkAndSuccessesGrowTheLimit() {
+        CircuitBreakerNotificationDecorator guard = decorator(new AdaptiveConcurrencyLimit(8, 1, 10, 1000, 0.5));
+        providerDown = true;
+        assertThrows(IllegalStateException.class, () -> guard.send(new Order(), "message"));
+        assertEquals(4, guard.getConcurrencyLimit().getLimit());
+
+        providerDown = false;
+        for (int i = 0; i < 5; i++) {
+            guard.send(new Order(), "message");
+        }
+
+        assertEquals(5, guard.getConcurrencyLimit().getLimit());
+    }
+
+    @Test
+    void testSend_RejectsBeyondAdaptiveLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 10, 1000, 0.5);
+        CircuitBreakerNotificationDecorator guard = decorator(limit);
+        assertTrue(limit.tryAcquire());
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> guard.send(new Order(), "message"));
+
+        assertEquals("Adaptive concurrency limit reached for channel: SMS", error.getMessage());
+        assertEquals(0, providerCalls);
+    }
+
+    @Test
+    void testSendBatch_ReportsEveryEnvelopeWhenOpen() {
+        CircuitBreakerNotificationDecorator guard = decorator(new AdaptiveConcurrencyLimit(10, 1, 10, 1000, 0.5));
+        providerDown = true;
+        List<NotificationEnvelope> envelopes = List.of(
+                new NotificationEnvelope(new Order(), "a"), new NotificationEnvelope(new Order(), "b"));
+        // each fully failed batch is one failed call
+        guard.sendBatch(envelopes);
+        guard.sendBatch(envelopes);
+
+        NotificationBatchResult result = guard.sendBatch(envelopes);
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(4, providerCalls);
+    }
+
+    private CircuitBreakerNotificationDecorator decorator(AdaptiveConcurrencyLimit limit) {
+        NotificationStrategy provider = new NotificationStrategy() {
+            @Override
+            public void send(Order order, String message) {
+                providerCalls++;
+                if (providerDown) {
+                    throw new IllegalStateException("provider down");
+                }
+            }
+
+            @Override
+            public NotificationType getType() {
+                return NotificationType.SMS;
+            }
+        };
+        return new CircuitBreakerNotificationDecorator(provider, new CircuitBreaker(0.5, 2, 2, 60_000, 1), limit);
+    }
+}
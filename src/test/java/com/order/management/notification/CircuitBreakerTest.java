@@ -0,0 +1,82 @@
+package com.order.management.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 4, 1000, 2, nanos::get);
+
+    @Test
+    void testOpensAtFailureRateAndRejectsUntilOpenDurationPasses() {
+        record(true, false, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        record(false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1000, breaker.getRemainingOpenMs());
+        nanos.addAndGet(999_000_000);
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getRemainingOpenMs());
+    }
+
+    @Test
+    void testHalfOpenClosesAfterSuccessfulProbes() {
+        record(false, false, false, false);
+        nanos.addAndGet(1_000_000_000);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        // only two probes may be in flight
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testHalfOpenReopensOnProbeFailure() {
+        record(false, false, false, false);
+        nanos.addAndGet(1_000_000_000);
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testOldOutcomesLeaveTheWindow() {
+        record(false, true, true, true, true, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        record(false);
+
+        // 3 of 7 calls failed, but 2 of the last 4
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    /**
+     * Records calls in order; {@code true} is a success.
+     */
+    private void record(boolean... successes) {
+        for (boolean success : successes) {
+            assertTrue(breaker.tryAcquirePermission());
+            if (success) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure();
+            }
+        }
+    }
+}
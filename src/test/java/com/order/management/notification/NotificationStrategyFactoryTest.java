@@ -0,0 +1,108 @@
+package com.order.management.notification;
+
+import com.order.management.exception.InvalidNotificationChannelException;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationStrategyFactoryTest {
+
+    private NotificationStrategyFactory factory;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        NotificationChannelProperties properties = new NotificationChannelProperties();
+        properties.getChannels().put(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(List.of(NotificationDecoratorType.LOGGING, NotificationDecoratorType.RATE_LIMIT))
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        factory = new NotificationStrategyFactory(
+                List.of(new EmailNotificationStrategy(), new SMSNotificationStrategy()), properties,
+                Runnable::run, (order, type, status, message, attempts, lastError) -> { }, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    void testGetStrategy_ReturnsSamePrebuiltChain() {
+        NotificationStrategy email = factory.getStrategy(NotificationType.EMAIL);
+
+        assertSame(email, factory.getStrategy(NotificationType.EMAIL));
+        assertInstanceOf(CircuitBreakerNotificationDecorator.class, email);
+        assertEquals(NotificationType.EMAIL, email.getType());
+        assertInstanceOf(LoggingNotificationDecorator.class, factory.getStrategy(NotificationType.SMS));
+    }
+
+    @Test
+    void testReload_SwapsOnlyTheUpdatedChannel() {
+        NotificationStrategy email = factory.getStrategy(NotificationType.EMAIL);
+
+        factory.reload(Map.of(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(List.of(NotificationDecoratorType.TIMEOUT))
+                .timeoutMs(1000)
+                .build()));
+
+        NotificationStrategy sms = factory.getStrategy(NotificationType.SMS);
+        assertInstanceOf(TimeoutNotificationDecorator.class, sms);
+        assertEquals(List.of(NotificationDecoratorType.TIMEOUT), factory.getSettings().get(NotificationType.SMS).getDecorators());
+        assertEquals(List.of(NotificationDecoratorType.CIRCUIT_BREAKER, NotificationDecoratorType.LOGGING,
+                NotificationDecoratorType.CONCURRENCY_LIMIT), factory.getSettings().get(NotificationType.EMAIL).getDecorators());
+        assertDoesNotThrow(() -> sms.send(Order.builder().id(OrderIdGenerator.next()).build(), "message"));
+        assertSame(email, factory.getStrategy(NotificationType.EMAIL));
+    }
+
+    @Test
+    void testReload_RejectsInvalidSettingsAndKeepsCurrentChains() {
+        NotificationStrategy sms = factory.getStrategy(NotificationType.SMS);
+        NotificationChannelProperties.ChannelSettings missingDecorators = NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(null)
+                .build();
+        NotificationChannelProperties.ChannelSettings unknownDecorator = NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(Arrays.asList(NotificationDecoratorType.LOGGING, null))
+                .build();
+        NotificationChannelProperties.ChannelSettings noConcurrency = NotificationChannelProperties.ChannelSettings.builder()
+                .maxConcurrency(0)
+                .build();
+
+        assertThrows(InvalidNotificationChannelException.class, () -> factory.reload(null));
+        assertThrows(InvalidNotificationChannelException.class,
+                () -> factory.reload(Map.of(NotificationType.SMS, missingDecorators)));
+        assertThrows(InvalidNotificationChannelException.class,
+                () -> factory.reload(Map.of(NotificationType.SMS, unknownDecorator)));
+        InvalidNotificationChannelException invalid = assertThrows(InvalidNotificationChannelException.class,
+                () -> factory.reload(Map.of(NotificationType.EMAIL, new NotificationChannelProperties.ChannelSettings(),
+                        NotificationType.SMS, noConcurrency)));
+        assertEquals("maxConcurrency must be positive for channel: SMS", invalid.getMessage());
+        assertSame(sms, factory.getStrategy(NotificationType.SMS));
+        assertEquals(List.of(NotificationDecoratorType.LOGGING, NotificationDecoratorType.RATE_LIMIT),
+                factory.getSettings().get(NotificationType.SMS).getDecorators());
+    }
+
+    @Test
+    void testGetStrategy_ProviderCallsAreTimedAcrossReloads() {
+        Order order = Order.builder().id(OrderIdGenerator.next()).build();
+        factory.getStrategy(NotificationType.SMS).send(order, "message");
+        factory.reload(Map.of(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(List.of())
+                .build()));
+        factory.getStrategy(NotificationType.SMS).send(order, "message");
+
+        assertInstanceOf(TimedNotificationDecorator.class, factory.getStrategy(NotificationType.SMS));
+        assertEquals(2, meterRegistry.get("notification.provider.call")
+                .tags("channel", "sms", "call", "send", "outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,120 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationTemplateEngineTest {
+
+    @TempDir
+    Path templateDir;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = new Order("Jane Doe", "jane@example.com", "9876543210", new BigDecimal("42.50"), NotificationType.EMAIL);
+        order.setId(OrderIdGenerator.next());
+    }
+
+    @Test
+    void testRender_DefaultTemplatesKeepExistingMessages() {
+        NotificationTemplateEngine engine = new NotificationTemplateEngine("classpath:notification-templates/");
+
+        assertEquals("Email notification: Your order has been shipped. Order ID: " + order.getId(),
+                engine.render(order, OrderStatus.SHIPPED, NotificationType.EMAIL, null));
+        assertEquals("SMS notification: Your order has been cancelled. Order ID: " + order.getId(),
+                engine.render(order, OrderStatus.CANCELLED, NotificationType.SMS, null));
+    }
+
+    @Test
+    void testRender_FallsBackFromRegionToLanguageToDefault() throws IOException {
+        write("messages.properties", defaults("Default {status} {orderId}"));
+        write("messages_fr.properties", "sms.shipped=Commande {orderId} expédiée.\nemail.shipped=Bonjour {customerName},\\n{totalAmount}\n");
+        write("messages_fr_CA.properties", "sms.shipped=Commande {orderId} en route.\n");
+        NotificationTemplateEngine engine = engine();
+
+        assertEquals("Commande " + order.getId() + " en route.",
+                engine.render(order, OrderStatus.SHIPPED, NotificationType.SMS, "fr-CA"));
+        assertEquals("Bonjour Jane Doe,\n42.50", engine.render(order, OrderStatus.SHIPPED, NotificationType.EMAIL, "fr-CA"));
+        assertEquals("Commande " + order.getId() + " expédiée.",
+                engine.render(order, OrderStatus.SHIPPED, NotificationType.SMS, "fr-BE"));
+        assertEquals("Default CREATED " + order.getId(), engine.render(order, OrderStatus.CREATED, NotificationType.SMS, "fr"));
+        assertEquals("Default SHIPPED " + order.getId(), engine.render(order, OrderStatus.SHIPPED, NotificationType.SMS, "de"));
+    }
+
+    @Test
+    void testRender_LiteralBraceIsEscaped() throws IOException {
+        write("messages.properties", defaults("{{ref} {orderId}"));
+
+        assertEquals("{ref} " + order.getId(), engine().render(order, OrderStatus.CREATED, NotificationType.EMAIL, null));
+    }
+
+    @Test
+    void testReloadIfChanged_PicksUpEditedTemplates() throws IOException {
+        Path file = write("messages.properties", defaults("Before {orderId}"));
+        NotificationTemplateEngine engine = engine();
+
+        engine.reloadIfChanged();
+        assertEquals("Before " + order.getId(), engine.render(order, OrderStatus.CREATED, NotificationType.SMS, null));
+
+        write("messages.properties", defaults("After {orderId}"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+        engine.reloadIfChanged();
+
+        assertEquals("After " + order.getId(), engine.render(order, OrderStatus.CREATED, NotificationType.SMS, null));
+    }
+
+    @Test
+    void testReload_InvalidTemplateKeepsCurrentTemplates() throws IOException {
+        Path file = write("messages.properties", defaults("Valid {orderId}"));
+        NotificationTemplateEngine engine = engine();
+
+        write("messages.properties", defaults("Broken {unknownField}"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+
+        assertThrows(IllegalStateException.class, engine::reload);
+        engine.reloadIfChanged();
+        assertEquals("Valid " + order.getId(), engine.render(order, OrderStatus.CREATED, NotificationType.SMS, null));
+    }
+
+    @Test
+    void testConstructor_MissingDefaultTemplateFails() throws IOException {
+        write("messages.properties", "email.created=Only one {orderId}\n");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, this::engine);
+        assertTrue(error.getMessage().contains("Missing template"));
+    }
+
+    private NotificationTemplateEngine engine() {
+        return new NotificationTemplateEngine(templateDir.toUri().toString());
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(templateDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static String defaults(String template) {
+        StringBuilder properties = new StringBuilder();
+        for (NotificationType type : NotificationType.values()) {
+            for (OrderStatus status : OrderStatus.values()) {
+                properties.append(type.name().toLowerCase()).append('.').append(status.name().toLowerCase())
+                        .append('=').append(template).append('\n');
+            }
+        }
+        return properties.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.order.management.notification;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryNotificationDecoratorTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch deadLettered = new CountDownLatch(1);
+    private final AtomicInteger deadLetterAttempts = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testSend_RetriesInBackgroundUntilSuccess() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(1);
+        RetryNotificationDecorator retry = decorator(failing(2, delivered), new RetryBudget(0.2, 10), 3);
+        // Hold the scheduler so the jittered retry, which may be due immediately, cannot run before the check
+        CountDownLatch schedulerHeld = new CountDownLatch(1);
+        scheduler.execute(() -> {
+            try {
+                schedulerHeld.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // first failure is absorbed; the caller is not blocked for the backoff
+        assertDoesNotThrow(() -> retry.send(new Order(), "message"));
+        assertEquals(1, calls.get());
+        schedulerHeld.countDown();
+
+        assertTrue(delivered.await(1, TimeUnit.SECONDS));
+        assertEquals(3, calls.get());
+        assertEquals(1, deadLettered.getCount());
+    }
+
+    @Test
+    void testSend_DeadLettersAfterMaxAttempts() throws Exception {
+        RetryNotificationDecorator retry = decorator(failing(Integer.MAX_VALUE, new CountDownLatch(1)), new RetryBudget(0.2, 10), 3);
+
+        retry.send(new Order(), "message");
+
+        assertTrue(deadLettered.await(1, TimeUnit.SECONDS));
+        assertEquals(3, calls.get());
+        assertEquals(3, deadLetterAttempts.get());
+    }
+
+    @Test
+    void testSend_ThrowsWhenRetryBudgetIsEmpty() {
+        RetryNotificationDecorator retry = decorator(failing(Integer.MAX_VALUE, new CountDownLatch(1)), new RetryBudget(0.2, 0), 3);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> retry.send(new Order(), "message"));
+        assertEquals("provider down", error.getMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testSendBatch_ReturnsEveryFailureForTheOutboxToRetry() {
+        RetryNotificationDecorator retry = decorator(failing(Integer.MAX_VALUE, new CountDownLatch(1)), new RetryBudget(0.2, 10), 3);
+        List<NotificationEnvelope> envelopes = List.of(
+                new NotificationEnvelope(new Order(), "a"), new NotificationEnvelope(new Order(), "b"));
+
+        NotificationBatchResult result = retry.sendBatch(envelopes);
+
+        // nothing is retried in memory, so neither envelope may be reported as delivered
+        assertEquals(2, result.getFailures().size());
+        assertEquals(2, calls.get());
+        assertEquals(1, deadLettered.getCount());
+    }
+
+    private RetryNotificationDecorator decorator(NotificationStrategy delegate, RetryBudget budget, int maxAttempts) {
+        return new RetryNotificationDecorator(delegate, new RetryPolicy(maxAttempts, 5, 20), budget, scheduler, Runnable::run,
+                (order, type, status, message, attempts, lastError) -> {
+                    deadLetterAttempts.set(attempts);
+                    deadLettered.countDown();
+                });
+    }
+
+    /**
+     * Fails the first {@code failures} calls, then counts down {@code delivered}.
+     */
+    private NotificationStrategy failing(int failures, CountDownLatch delivered) {
+        return new NotificationStrategy() {
+            @Override
+            public void send(Order order, String message) {
+                if (calls.incrementAndGet() <= failures) {
+                    throw new IllegalStateException("provider down");
+                }
+                delivered.countDown();
+            }
+
+            @Override
+            public NotificationType getType() {
+                return NotificationType.SMS;
+            }
+        };
+    }
+}
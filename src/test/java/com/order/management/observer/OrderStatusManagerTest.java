@@ -0,0 +1,158 @@
+package com.order.management.observer;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderStatusManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderStatusManager manager;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    public void testNotifyObservers_AsyncObserverSeesEachOrdersChangesInOrder() throws InterruptedException {
+        int orders = 50;
+        int changesPerOrder = 20;
+        CountDownLatch done = new CountDownLatch(orders * changesPerOrder);
+        Map<UUID, List<String>> seen = new ConcurrentHashMap<>();
+        OrderStatusObserver observer = new AsyncObserver((order, previousStatus) -> {
+            seen.computeIfAbsent(order.getId(), id -> Collections.synchronizedList(new ArrayList<>())).add(previousStatus);
+            done.countDown();
+        });
+        manager = new OrderStatusManager(List.of(observer), meterRegistry, 4, 10_000);
+
+        List<Order> created = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            created.add(order());
+        }
+        for (int change = 0; change < changesPerOrder; change++) {
+            for (Order order : created) {
+                manager.notifyObservers(order, String.valueOf(change));
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (Order order : created) {
+            List<String> changes = seen.get(order.getId());
+            for (int change = 0; change < changesPerOrder; change++) {
+                assertEquals(String.valueOf(change), changes.get(change));
+            }
+        }
+        assertEquals(0.0, meterRegistry.get("order.observer.rejected").counter().count());
+        assertEquals(orders * changesPerOrder, meterRegistry.get("order.observer.lag").timer().count());
+    }
+
+    @Test
+    public void testNotifyObservers_FailingObserverDoesNotAffectOthers() {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        OrderStatusObserver failing = (order, previousStatus) -> {
+            throw new IllegalStateException("boom");
+        };
+        OrderStatusObserver recording = (order, previousStatus) -> calls.add(previousStatus);
+        manager = new OrderStatusManager(List.of(failing, recording), meterRegistry, 1, 16);
+
+        manager.notifyObservers(order(), "CREATED");
+
+        assertEquals(List.of("CREATED"), calls);
+        assertEquals(1.0, meterRegistry.find("order.observer.failures").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    public void testNotifyObservers_AsyncObserversWaitForCommit() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<String> syncCalls = new ArrayList<>();
+        manager = new OrderStatusManager(List.of(
+                (order, previousStatus) -> syncCalls.add(previousStatus),
+                new AsyncObserver((order, previousStatus) -> delivered.countDown())), meterRegistry, 1, 16);
+
+        TransactionSynchronizationManager.initSynchronization();
+        manager.notifyObservers(order(), "CREATED");
+
+        assertEquals(List.of("CREATED"), syncCalls);
+        assertFalse(delivered.await(100, TimeUnit.MILLISECONDS));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testNotifyObservers_FullQueueDropsAndCounts() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        manager = new OrderStatusManager(List.of(new AsyncObserver((order, previousStatus) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })), meterRegistry, 1, 1);
+        Order order = order();
+
+        manager.notifyObservers(order, "1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        manager.notifyObservers(order, "2");
+        manager.notifyObservers(order, "3");
+
+        assertEquals(1, meterRegistry.get("order.observer.queue.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.get("order.observer.rejected").counter().count());
+        release.countDown();
+    }
+
+    private Order order() {
+        Order order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("10.00"), NotificationType.EMAIL);
+        order.setId(OrderIdGenerator.next());
+        order.setStatus(OrderStatus.SHIPPED);
+        return order;
+    }
+
+    private static class AsyncObserver implements OrderStatusObserver {
+        private final OrderStatusObserver delegate;
+
+        AsyncObserver(OrderStatusObserver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onOrderStatusChange(Order order, String previousStatus) {
+            delegate.onOrderStatusChange(order, previousStatus);
+        }
+
+        @Override
+        public ObserverDelivery delivery() {
+            return ObserverDelivery.ASYNC;
+        }
+    }
+}
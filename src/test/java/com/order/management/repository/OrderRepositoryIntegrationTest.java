@@ -1,7 +1,12 @@
 package com.order.management.repository;
 
+import com.order.management.dto.OrderResponse;
 import com.order.management.model.NotificationType;
 import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,6 +22,9 @@ public class OrderRepositoryIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testSaveAndFind_OrderPersistedSuccessfully() {
         // Arrange
@@ -48,9 +56,37 @@ public class OrderRepositoryIntegrationTest {
         assertEquals(new BigDecimal("75.00"), updated.get().getTotalAmount());
     }
 
+    @Test
+    public void testCompareAndSetStatus_UpdatesOnlyFromExpectedStatus() {
+        Order saved = orderRepository.saveAndFlush(
+                new Order("Alice", "alice@example.com", "0123456789", new BigDecimal("50.00"), NotificationType.SMS));
+        Long version = saved.getVersion();
+
+        assertEquals(1, orderRepository.compareAndSetStatus(saved.getId(), OrderStatus.CREATED, OrderStatus.SHIPPED, Order.now()));
+        assertEquals(0, orderRepository.compareAndSetStatus(saved.getId(), OrderStatus.CREATED, OrderStatus.CANCELLED, Order.now()));
+
+        Order updated = orderRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(OrderStatus.SHIPPED, updated.getStatus());
+        assertEquals(version + 1, updated.getVersion());
+    }
+
+    @Test
+    public void testFindResponseById_ProjectsWithoutLoadingEntity() {
+        Order saved = orderRepository.saveAndFlush(
+                new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("100.00"), NotificationType.EMAIL));
+        entityManager.clear();
+
+        OrderResponse response = orderRepository.findResponseById(saved.getId()).orElseThrow();
+
+        assertEquals(saved.getId().toString(), response.getId());
+        assertEquals("John Doe", response.getCustomerName());
+        assertEquals(OrderStatus.CREATED, response.getStatus());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
     @Test
     public void testFindById_ReturnsEmptyForUnknownId() {
-        Optional<Order> result = orderRepository.findById("non-existing-id");
+        Optional<Order> result = orderRepository.findById(OrderIdGenerator.next());
         assertFalse(result.isPresent());
     }
 }
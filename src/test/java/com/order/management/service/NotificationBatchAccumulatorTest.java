@@ -0,0 +1,125 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.notification.NotificationBatchResult;
+import com.order.management.notification.NotificationEnvelope;
+import com.order.management.notification.NotificationStrategy;
+import com.order.management.notification.NotificationStrategyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationBatchAccumulatorTest {
+
+    private final List<List<String>> providerCalls = new ArrayList<>();
+    private NotificationBatchAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        NotificationStrategyFactory factory = mock(NotificationStrategyFactory.class);
+        when(factory.getStrategy(NotificationType.SMS))
+                .thenReturn(new FlakyStrategy());
+        accumulator = new NotificationBatchAccumulator(factory, Runnable::run, 3, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accumulator.destroy();
+    }
+
+    @Test
+    void testSubmit_FlushesOnSize() throws Exception {
+        CompletableFuture<Void> first = accumulator.submit(NotificationType.SMS, envelope("first"));
+        CompletableFuture<Void> second = accumulator.submit(NotificationType.SMS, envelope("second"));
+        assertFalse(first.isDone());
+
+        CompletableFuture<Void> third = accumulator.submit(NotificationType.SMS, envelope("third"));
+
+        // size-triggered flush ran on the (direct) executor
+        first.get(1, TimeUnit.SECONDS);
+        second.get(1, TimeUnit.SECONDS);
+        third.get(1, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of("first", "second", "third")), providerCalls);
+    }
+
+    @Test
+    void testSubmit_FlushesAfterLinger() throws Exception {
+        CompletableFuture<Void> only = accumulator.submit(NotificationType.SMS, envelope("only"));
+
+        only.get(1, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of("only")), providerCalls);
+    }
+
+    @Test
+    void testSubmit_FailsOnlyTheRejectedItem() {
+        CompletableFuture<Void> ok = accumulator.submit(NotificationType.SMS, envelope("ok"));
+        CompletableFuture<Void> broken = accumulator.submit(NotificationType.SMS, envelope("broken"));
+        accumulator.submit(NotificationType.SMS, envelope("ok too"));
+
+        assertDoesNotThrow(() -> ok.get(1, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> broken.get(1, TimeUnit.SECONDS));
+        assertEquals("rejected broken", error.getCause().getMessage());
+        assertEquals(List.of(List.of("ok", "broken", "ok too")), providerCalls);
+    }
+
+    @Test
+    void testSubmit_FailsTheBatchWhenTheExecutorIsFull() {
+        NotificationStrategyFactory factory = mock(NotificationStrategyFactory.class);
+        NotificationBatchAccumulator saturated = new NotificationBatchAccumulator(factory, task -> {
+            throw new RejectedExecutionException("queue full");
+        }, 2, 50);
+        try {
+            CompletableFuture<Void> first = saturated.submit(NotificationType.SMS, envelope("first"));
+            CompletableFuture<Void> second = saturated.submit(NotificationType.SMS, envelope("second"));
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+            assertTrue(second.isCompletedExceptionally());
+            verifyNoInteractions(factory);
+        } finally {
+            saturated.destroy();
+        }
+    }
+
+    private NotificationEnvelope envelope(String message) {
+        return new NotificationEnvelope(new Order(), message);
+    }
+
+    /**
+     * Fails "broken", recording every provider call.
+     */
+    private class FlakyStrategy implements NotificationStrategy {
+        @Override
+        public void send(Order order, String message) {
+            if (message.equals("broken")) {
+                throw new IllegalStateException("rejected " + message);
+            }
+        }
+
+        @Override
+        public NotificationBatchResult sendBatch(List<NotificationEnvelope> envelopes) {
+            synchronized (providerCalls) {
+                providerCalls.add(envelopes.stream().map(NotificationEnvelope::getMessage).toList());
+            }
+            return NotificationStrategy.super.sendBatch(envelopes);
+        }
+
+        @Override
+        public NotificationType getType() {
+            return NotificationType.SMS;
+        }
+    }
+}
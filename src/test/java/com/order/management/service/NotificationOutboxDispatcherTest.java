@@ -0,0 +1,323 @@
+package com.order.management.service;
+
+import com.order.management.model.NotificationDeadLetter;
+import com.order.management.model.NotificationOutboxEntry;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.notification.NotificationChannelProperties;
+import com.order.management.notification.NotificationDecoratorType;
+import com.order.management.notification.NotificationMessageBuilder;
+import com.order.management.notification.NotificationStrategy;
+import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.notification.NotificationTemplateEngine;
+import com.order.management.repository.NotificationDeadLetterRepository;
+import com.order.management.repository.NotificationOutboxRepository;
+import com.order.management.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+public class NotificationOutboxDispatcherTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationService notificationService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationStrategyFactory strategyFactory;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        notificationService = mock(NotificationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        strategyFactory = new NotificationStrategyFactory(List.of(), new NotificationChannelProperties(),
+                Runnable::run, new JpaNotificationDeadLetterStore(deadLetterRepository), meterRegistry);
+        dispatcher = new NotificationOutboxDispatcher(outboxRepository, orderRepository, notificationService,
+                strategyFactory, transactionManager, meterRegistry, new JpaNotificationDeadLetterStore(deadLetterRepository),
+                10, 2, 3, 3_600_000, 3_600_000, 60_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        strategyFactory.destroy();
+    }
+
+    @Test
+    public void testDispatchBatch_DeletesDeliveredAndReschedulesFailed() {
+        Order delivered = orderRepository.save(new Order("John Doe", "john@example.com", "9876543210",
+                new BigDecimal("100.00"), NotificationType.EMAIL));
+        Order failing = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        outboxRepository.save(new NotificationOutboxEntry(delivered.getId(), NotificationType.EMAIL, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(failing.getId(), NotificationType.SMS, OrderStatus.CREATED));
+        when(notificationService.queueOrderNotification(argThat(order -> order != null && order.getId().equals(delivered.getId())),
+                eq(NotificationType.EMAIL), eq(OrderStatus.CREATED)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(notificationService.queueOrderNotification(argThat(order -> order != null && order.getId().equals(failing.getId())),
+                eq(NotificationType.SMS), eq(OrderStatus.CREATED)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("gateway down")));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        List<NotificationOutboxEntry> remaining = outboxRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals(failing.getId(), remaining.get(0).getOrderId());
+        assertEquals(1, remaining.get(0).getAttempts());
+        assertEquals("gateway down", remaining.get(0).getLastError());
+        // not due again until the retry delay has passed
+        assertEquals(0, dispatcher.dispatchBatch());
+        assertEquals(1.0, meterRegistry.get("notification.outbox.dispatched")
+                .tags("channel", "email", "outcome", "success").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.outbox.dispatched")
+                .tags("channel", "sms", "outcome", "failure").counter().count());
+        assertEquals(0, deadLetterRepository.count());
+    }
+
+    @Test
+    public void testDispatchBatch_SendsAnOrdersNotificationsInSequence() {
+        Order order = orderRepository.save(new Order("John Doe", "john@example.com", "9876543210",
+                new BigDecimal("100.00"), NotificationType.EMAIL));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.EMAIL, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.EMAIL, OrderStatus.SHIPPED));
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        List<Boolean> createdDoneWhenShippedSent = new CopyOnWriteArrayList<>();
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.EMAIL), eq(OrderStatus.CREATED)))
+                .thenAnswer(invocation -> {
+                    CompletableFuture.runAsync(() -> created.complete(null),
+                            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+                    return created;
+                });
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.EMAIL), eq(OrderStatus.SHIPPED)))
+                .thenAnswer(invocation -> {
+                    createdDoneWhenShippedSent.add(created.isDone());
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(true), createdDoneWhenShippedSent);
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void testDispatchBatch_HoldsBackNotificationsBehindAFailedOne() {
+        Order order = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        NotificationOutboxEntry created = outboxRepository.save(
+                new NotificationOutboxEntry(order.getId(), NotificationType.SMS, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.SMS, OrderStatus.SHIPPED));
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.SMS), eq(OrderStatus.CREATED)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("gateway down")));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        verify(notificationService, never()).queueOrderNotification(any(), any(), eq(OrderStatus.SHIPPED));
+        List<NotificationOutboxEntry> remaining = outboxRepository.findAll();
+        assertEquals(2, remaining.size());
+        NotificationOutboxEntry failed = remaining.stream().filter(e -> e.getId().equals(created.getId())).findFirst().orElseThrow();
+        NotificationOutboxEntry held = remaining.stream().filter(e -> !e.getId().equals(created.getId())).findFirst().orElseThrow();
+        assertEquals(1, failed.getAttempts());
+        assertEquals(0, held.getAttempts());
+        assertEquals(failed.getNextAttemptAt(), held.getNextAttemptAt());
+        assertTrue(held.getId().compareTo(failed.getId()) > 0);
+    }
+
+    @Test
+    public void testDispatchBatch_LaterNotificationsWaitBehindAFailedOneAcrossBatches() {
+        NotificationOutboxDispatcher smallBatches = new NotificationOutboxDispatcher(outboxRepository, orderRepository,
+                notificationService, strategyFactory, transactionManager, meterRegistry,
+                new JpaNotificationDeadLetterStore(deadLetterRepository), 2, 2, 3, 3_600_000, 3_600_000, 60_000);
+        Order failing = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        Order busy = orderRepository.save(new Order("John Doe", "john@example.com", "9876543210",
+                new BigDecimal("100.00"), NotificationType.EMAIL));
+        outboxRepository.save(new NotificationOutboxEntry(failing.getId(), NotificationType.SMS, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(busy.getId(), NotificationType.EMAIL, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(busy.getId(), NotificationType.EMAIL, OrderStatus.SHIPPED));
+        outboxRepository.save(new NotificationOutboxEntry(busy.getId(), NotificationType.EMAIL, OrderStatus.COMPLETED));
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.SMS), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("gateway down")));
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.EMAIL), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(2, smallBatches.dispatchBatch());
+        // written after the failure, while the failed entry waits for its retry
+        outboxRepository.save(new NotificationOutboxEntry(failing.getId(), NotificationType.SMS, OrderStatus.SHIPPED));
+        assertEquals(2, smallBatches.dispatchBatch());
+        assertEquals(0, smallBatches.dispatchBatch());
+
+        verify(notificationService, never()).queueOrderNotification(any(), eq(NotificationType.SMS), eq(OrderStatus.SHIPPED));
+        verify(notificationService, times(3)).queueOrderNotification(any(), eq(NotificationType.EMAIL), any());
+        List<NotificationOutboxEntry> remaining = outboxRepository.findAll();
+        assertEquals(2, remaining.size());
+        assertTrue(remaining.stream().allMatch(entry -> entry.getOrderId().equals(failing.getId())));
+    }
+
+    @Test
+    public void testDispatchBatch_OtherDispatchersSkipClaimedEntries() {
+        NotificationOutboxDispatcher otherNode = new NotificationOutboxDispatcher(outboxRepository, orderRepository,
+                notificationService, strategyFactory, transactionManager, meterRegistry,
+                new JpaNotificationDeadLetterStore(deadLetterRepository), 10, 2, 3, 3_600_000, 3_600_000, 60_000);
+        Order order = orderRepository.save(new Order("John Doe", "john@example.com", "9876543210",
+                new BigDecimal("100.00"), NotificationType.EMAIL));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.EMAIL, OrderStatus.CREATED));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.EMAIL, OrderStatus.SHIPPED));
+        List<Integer> foundByOtherNode = new CopyOnWriteArrayList<>();
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.EMAIL), eq(OrderStatus.CREATED)))
+                .thenAnswer(invocation -> {
+                    // another instance polls while this batch is sending
+                    foundByOtherNode.add(otherNode.dispatchBatch());
+                    return CompletableFuture.completedFuture(null);
+                });
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.EMAIL), eq(OrderStatus.SHIPPED)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(0), foundByOtherNode);
+        verify(notificationService, times(1)).queueOrderNotification(any(), any(), eq(OrderStatus.CREATED));
+        verify(notificationService, times(1)).queueOrderNotification(any(), any(), eq(OrderStatus.SHIPPED));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void testDispatchBatch_DeadLettersAfterMaxAttempts() {
+        Order order = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        NotificationOutboxEntry entry = new NotificationOutboxEntry(order.getId(), NotificationType.SMS, OrderStatus.COMPLETED);
+        entry.setAttempts(2);
+        outboxRepository.save(entry);
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.SMS), eq(OrderStatus.COMPLETED)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("gateway down")));
+
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        assertEquals(0, outboxRepository.count());
+        List<NotificationDeadLetter> deadLetters = deadLetterRepository.findAll();
+        assertEquals(1, deadLetters.size());
+        assertEquals(order.getId(), deadLetters.get(0).getOrderId());
+        assertEquals(OrderStatus.COMPLETED, deadLetters.get(0).getOrderStatus());
+        assertEquals(3, deadLetters.get(0).getAttempts());
+        assertEquals("gateway down", deadLetters.get(0).getLastError());
+    }
+
+    @Test
+    public void testDispatchBatch_HoldsFailedRowsWithoutSpendingAttemptsWhenRetryBudgetIsEmpty() {
+        NotificationChannelProperties properties = new NotificationChannelProperties();
+        properties.getChannels().put(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .retryBudgetRatio(0)
+                .retryBudgetMaxTokens(1)
+                .build());
+        NotificationStrategyFactory budgetedFactory = new NotificationStrategyFactory(List.of(), properties,
+                Runnable::run, new JpaNotificationDeadLetterStore(deadLetterRepository), meterRegistry);
+        NotificationOutboxDispatcher budgeted = new NotificationOutboxDispatcher(outboxRepository, orderRepository,
+                notificationService, budgetedFactory, transactionManager, meterRegistry,
+                new JpaNotificationDeadLetterStore(deadLetterRepository), 10, 2, 3, 0, 0, 60_000);
+        Order order = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.SMS, OrderStatus.CREATED));
+        when(notificationService.queueOrderNotification(any(), eq(NotificationType.SMS), eq(OrderStatus.CREATED)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("gateway down")));
+        try {
+            // the one token pays for the first retry
+            assertEquals(1, budgeted.dispatchBatch());
+            assertEquals(1, outboxRepository.findAll().get(0).getAttempts());
+
+            // with the budget empty the failures no longer count towards max-attempts
+            assertEquals(1, budgeted.dispatchBatch());
+            assertEquals(1, budgeted.dispatchBatch());
+            assertEquals(1, outboxRepository.findAll().get(0).getAttempts());
+            assertEquals(0, deadLetterRepository.count());
+            verify(notificationService, times(3)).queueOrderNotification(any(), eq(NotificationType.SMS), any());
+        } finally {
+            budgetedFactory.destroy();
+        }
+    }
+
+    @Test
+    public void testDispatchBatch_ChannelChainRejectionsStayInTheOutbox() {
+        AtomicInteger providerCalls = new AtomicInteger();
+        NotificationStrategy gateway = new NotificationStrategy() {
+            @Override
+            public void send(Order order, String message) {
+                providerCalls.incrementAndGet();
+                throw new IllegalStateException("gateway down");
+            }
+
+            @Override
+            public NotificationType getType() {
+                return NotificationType.SMS;
+            }
+        };
+        NotificationChannelProperties properties = new NotificationChannelProperties();
+        properties.getChannels().put(NotificationType.SMS, NotificationChannelProperties.ChannelSettings.builder()
+                .decorators(List.of(NotificationDecoratorType.RETRY, NotificationDecoratorType.CIRCUIT_BREAKER,
+                        NotificationDecoratorType.RATE_LIMIT))
+                .circuitMinimumCalls(1)
+                .circuitWindowSize(1)
+                .circuitOpenDurationMs(3_600_000)
+                .build());
+        JpaNotificationDeadLetterStore deadLetterStore = new JpaNotificationDeadLetterStore(deadLetterRepository);
+        NotificationStrategyFactory factory = new NotificationStrategyFactory(List.of(gateway), properties,
+                Runnable::run, deadLetterStore, meterRegistry);
+        NotificationBatchAccumulator accumulator = new NotificationBatchAccumulator(factory, Runnable::run, 10, 1);
+        NotificationService chainedService = new NotificationService(factory,
+                new NotificationMessageBuilder(new NotificationTemplateEngine("classpath:notification-templates/")),
+                outboxRepository, accumulator);
+        NotificationOutboxDispatcher chainedDispatcher = new NotificationOutboxDispatcher(outboxRepository,
+                orderRepository, chainedService, factory, transactionManager, meterRegistry, deadLetterStore,
+                10, 2, 3, 0, 0, 60_000);
+        Order order = orderRepository.save(new Order("Alice", "alice@example.com", "0123456789",
+                new BigDecimal("50.00"), NotificationType.SMS));
+        outboxRepository.save(new NotificationOutboxEntry(order.getId(), NotificationType.SMS, OrderStatus.CREATED));
+        try {
+            // the provider fails and opens the breaker; the retry decorator must not swallow the failure
+            assertEquals(1, chainedDispatcher.dispatchBatch());
+            NotificationOutboxEntry afterFailure = outboxRepository.findAll().get(0);
+            assertEquals(1, afterFailure.getAttempts());
+            assertEquals("gateway down", afterFailure.getLastError());
+
+            // the open breaker rejects without calling the provider; the row waits for the breaker to
+            // half-open and keeps its attempts
+            assertEquals(1, chainedDispatcher.dispatchBatch());
+            assertEquals(1, providerCalls.get());
+            NotificationOutboxEntry afterRejection = outboxRepository.findAll().get(0);
+            assertEquals(1, afterRejection.getAttempts());
+            assertTrue(afterRejection.getLastError().contains("Circuit breaker open"));
+            assertTrue(afterRejection.getNextAttemptAt().isAfter(Order.now().plusMinutes(59)));
+            assertEquals(0, chainedDispatcher.dispatchBatch());
+            assertEquals(0, deadLetterRepository.count());
+        } finally {
+            accumulator.destroy();
+            factory.destroy();
+        }
+    }
+}
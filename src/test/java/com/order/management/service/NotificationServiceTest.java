@@ -6,6 +6,7 @@ import com.order.management.model.OrderStatus;
 import com.order.management.notification.NotificationMessageBuilder;
 import com.order.management.notification.NotificationStrategy;
 import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.repository.NotificationOutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,7 +29,8 @@ class NotificationServiceTest {
         messageBuilder = mock(NotificationMessageBuilder.class);
         strategy = mock(NotificationStrategy.class);
 
-        notificationService = new NotificationService(notificationFactory, messageBuilder);
+        notificationService = new NotificationService(notificationFactory, messageBuilder,
+                mock(NotificationOutboxRepository.class), mock(NotificationBatchAccumulator.class));
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.order.management.service;
+
+import com.order.management.dto.BatchOrderResponse;
+import com.order.management.dto.CreateOrderRequest;
+import com.order.management.exception.InvalidOrderBatchException;
+import com.order.management.model.NotificationType;
+import com.order.management.notification.NotificationMessageBuilder;
+import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.observer.OrderStatusManager;
+import com.order.management.repository.NotificationOutboxRepository;
+import com.order.management.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DataJpaTest
+public class OrderBatchServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NotificationStrategyFactory strategyFactory;
+
+    @Mock
+    private NotificationMessageBuilder messageBuilder;
+
+    @Mock
+    private OrderStatusManager orderStatusManager;
+
+    private OrderBatchService orderBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        NotificationService notificationService = new NotificationService(strategyFactory, messageBuilder, outboxRepository,
+                mock(NotificationBatchAccumulator.class));
+        OrderService orderService = new OrderService(orderRepository, notificationService, orderStatusManager,
+                new OrderCache(new SimpleMeterRegistry(), false, 0, 0), OrderStateMachine.standard(),
+                mock(OrderStatistics.class), new OrderMetrics(new SimpleMeterRegistry()));
+        this.orderBatchService = new OrderBatchService(orderRepository, orderService,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, transactionManager, 2);
+    }
+
+    @Test
+    public void testCreateOrders_ReportsPerItemResults() {
+        List<CreateOrderRequest> requests = List.of(
+                request("John Doe", "9876543210"),
+                request("Jane Doe", "123"),
+                request("Alice", "0123456789"),
+                request("Bob", "1112223334"));
+
+        BatchOrderResponse response = orderBatchService.createOrders(requests);
+
+        assertEquals(4, response.getTotal());
+        assertEquals(3, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertTrue(response.getResults().get(1).getError().startsWith("mobileNumber"));
+        response.getResults().stream()
+                .filter(result -> result.isSuccess())
+                .forEach(result -> assertTrue(orderRepository.findById(UUID.fromString(result.getOrderId())).isPresent()));
+        assertEquals(3, outboxRepository.count());
+    }
+
+    @Test
+    public void testCreateOrders_RejectsEmptyBatch() {
+        assertThrows(InvalidOrderBatchException.class, () -> orderBatchService.createOrders(List.of()));
+    }
+
+    private CreateOrderRequest request(String name, String mobileNumber) {
+        return CreateOrderRequest.builder()
+                .customerName(name)
+                .customerEmail("customer@example.com")
+                .mobileNumber(mobileNumber)
+                .totalAmount(new BigDecimal("25.00"))
+                .notificationType(NotificationType.SMS)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.order.management.service;
+
+import com.order.management.dto.BatchItemResult;
+import com.order.management.dto.BatchOrderResponse;
+import com.order.management.dto.BulkStatusUpdateRequest;
+import com.order.management.exception.InvalidOrderBatchException;
+import com.order.management.model.NotificationOutboxEntry;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import com.order.management.notification.NotificationMessageBuilder;
+import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.observer.OrderStatusManager;
+import com.order.management.repository.NotificationOutboxRepository;
+import com.order.management.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DataJpaTest
+public class OrderBulkStatusServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Mock
+    private NotificationStrategyFactory strategyFactory;
+
+    @Mock
+    private NotificationMessageBuilder messageBuilder;
+
+    @Mock
+    private OrderStatusManager orderStatusManager;
+
+    private OrderBulkStatusService bulkStatusService;
+
+    @BeforeEach
+    public void setUp() {
+        NotificationService notificationService = new NotificationService(strategyFactory, messageBuilder, outboxRepository,
+                mock(NotificationBatchAccumulator.class));
+        this.bulkStatusService = new OrderBulkStatusService(orderRepository, notificationService, orderStatusManager,
+                OrderStateMachine.standard(), new OrderCache(new SimpleMeterRegistry(), false, 0, 0), entityManager, transactionManager, 2);
+    }
+
+    @Test
+    public void testUpdateStatuses_ReportsPerIdResults() {
+        Order first = save("John Doe", OrderStatus.CREATED);
+        Order second = save("Jane Doe", OrderStatus.CREATED);
+        Order completed = save("Alice", OrderStatus.COMPLETED);
+        String unknown = OrderIdGenerator.next().toString();
+
+        BatchOrderResponse response = bulkStatusService.updateStatuses(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(first.getId().toString(), "not-a-uuid", second.getId().toString(),
+                        completed.getId().toString(), unknown, first.getId().toString()))
+                .status(OrderStatus.SHIPPED)
+                .build());
+
+        assertEquals(6, response.getTotal());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(4, response.getFailed());
+        List<BatchItemResult> results = response.getResults();
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Order not found with ID: not-a-uuid", results.get(1).getError());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals("Cannot transition from terminal status COMPLETED", results.get(3).getError());
+        assertEquals("Order not found with ID: " + unknown, results.get(4).getError());
+        assertEquals("Duplicate order id in request", results.get(5).getError());
+
+        assertEquals(OrderStatus.SHIPPED, orderRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.SHIPPED, orderRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.COMPLETED, orderRepository.findById(completed.getId()).orElseThrow().getStatus());
+        List<NotificationOutboxEntry> outbox = outboxRepository.findAll();
+        assertEquals(2, outbox.size());
+        assertTrue(outbox.stream().allMatch(entry -> entry.getOrderStatus() == OrderStatus.SHIPPED));
+        verify(orderStatusManager, times(2)).notifyObservers(any(), eq("CREATED"));
+    }
+
+    @Test
+    public void testUpdateStatuses_FailedChunkKeepsItsRejections() {
+        Order completed = save("Alice", OrderStatus.COMPLETED);
+        Order failing = save("John Doe", OrderStatus.CREATED);
+        Order next = save("Jane Doe", OrderStatus.CREATED);
+        doThrow(new IllegalStateException("observer down")).when(orderStatusManager)
+                .notifyObservers(argThat(order -> order.getId().equals(failing.getId())), any());
+
+        BatchOrderResponse response = bulkStatusService.updateStatuses(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(completed.getId().toString(), failing.getId().toString(), next.getId().toString()))
+                .status(OrderStatus.SHIPPED)
+                .build());
+
+        List<BatchItemResult> results = response.getResults();
+        assertEquals("Cannot transition from terminal status COMPLETED", results.get(0).getError());
+        assertEquals("Update failed: observer down", results.get(1).getError());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(1, response.getSucceeded());
+    }
+
+    @Test
+    public void testUpdateStatuses_ReportsOrdersChangedBetweenReadAndUpdate() {
+        Order raced = save("John Doe", OrderStatus.CREATED);
+        Order moved = save("Jane Doe", OrderStatus.CREATED);
+        long versionBefore = moved.getVersion();
+        // Another request cancels the order after the chunk has read and validated it
+        OrderTransitionGuard concurrentCancel = (order, target) -> {
+            if (order.getId().equals(raced.getId())) {
+                orderRepository.compareAndSetStatus(raced.getId(), OrderStatus.CREATED, OrderStatus.CANCELLED, Order.now());
+            }
+            return null;
+        };
+        OrderBulkStatusService racingService = new OrderBulkStatusService(orderRepository,
+                new NotificationService(strategyFactory, messageBuilder, outboxRepository, mock(NotificationBatchAccumulator.class)),
+                orderStatusManager, OrderStateMachine.standardTransitions().guards(List.of(concurrentCancel)).build(),
+                new OrderCache(new SimpleMeterRegistry(), false, 0, 0), entityManager, transactionManager, 2);
+
+        BatchOrderResponse response = racingService.updateStatuses(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(raced.getId().toString(), moved.getId().toString()))
+                .status(OrderStatus.SHIPPED)
+                .build());
+
+        assertEquals("Order was changed concurrently", response.getResults().get(0).getError());
+        assertTrue(response.getResults().get(1).isSuccess());
+        assertEquals(OrderStatus.CANCELLED, orderRepository.findById(raced.getId()).orElseThrow().getStatus());
+        Order shipped = orderRepository.findById(moved.getId()).orElseThrow();
+        assertEquals(OrderStatus.SHIPPED, shipped.getStatus());
+        assertEquals(versionBefore + 1, shipped.getVersion());
+        assertEquals(1, outboxRepository.count());
+    }
+
+    @Test
+    public void testUpdateStatuses_RejectsEmptyRequest() {
+        assertThrows(InvalidOrderBatchException.class, () -> bulkStatusService.updateStatuses(
+                BulkStatusUpdateRequest.builder().orderIds(List.of()).status(OrderStatus.SHIPPED).build()));
+    }
+
+    private Order save(String customerName, OrderStatus status) {
+        Order order = new Order(customerName, "customer@example.com", "9876543210", new BigDecimal("25.00"), NotificationType.EMAIL);
+        order.setStatus(status);
+        return orderRepository.saveAndFlush(order);
+    }
+}
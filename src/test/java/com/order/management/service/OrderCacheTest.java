@@ -0,0 +1,118 @@
+package com.order.management.service;
+
+import com.order.management.dto.OrderResponse;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderCache cache = new OrderCache(meterRegistry, true, 100, 60_000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_ConcurrentMissesShareOneLoad() throws Exception {
+        UUID id = OrderIdGenerator.next();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OrderResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(readers.submit(() -> cache.get(id, key -> {
+                    loading.countDown();
+                    await(release);
+                    return order(key, OrderStatus.CREATED);
+                })));
+            }
+            assertTrue(loading.await(1, TimeUnit.SECONDS));
+            // give the other readers time to pile up on the same miss
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<OrderResponse> result : results) {
+                assertEquals(OrderStatus.CREATED, result.get(1, TimeUnit.SECONDS).getStatus());
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "orders", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testGet_DoesNotCacheMissingOrders() {
+        UUID id = OrderIdGenerator.next();
+
+        assertNull(cache.get(id, this::countingMissingLoad));
+        assertNull(cache.get(id, this::countingMissingLoad));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateAfterCommit_KeepsEntryUntilTransactionCompletes() {
+        UUID id = OrderIdGenerator.next();
+        cache.get(id, key -> order(key, OrderStatus.CREATED));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit(id);
+
+        assertEquals(OrderStatus.CREATED, cache.get(id, key -> order(key, OrderStatus.SHIPPED)).getStatus());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertEquals(OrderStatus.SHIPPED, cache.get(id, key -> order(key, OrderStatus.SHIPPED)).getStatus());
+    }
+
+    @Test
+    void testDisabledCache_AlwaysLoads() {
+        OrderCache disabled = new OrderCache(meterRegistry, false, 100, 60_000);
+        UUID id = OrderIdGenerator.next();
+
+        disabled.get(id, this::countingMissingLoad);
+        disabled.get(id, this::countingMissingLoad);
+
+        assertEquals(2, loads.get());
+    }
+
+    private OrderResponse countingMissingLoad(UUID id) {
+        loads.incrementAndGet();
+        return null;
+    }
+
+    private static OrderResponse order(UUID id, OrderStatus status) {
+        return OrderResponse.builder().id(id.toString()).status(status).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
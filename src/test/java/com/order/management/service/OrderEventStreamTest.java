@@ -0,0 +1,219 @@
+package com.order.management.service;
+
+import com.order.management.dto.OrderStatusEvent;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderEventStreamTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderEventStream stream;
+
+    @AfterEach
+    public void tearDown() {
+        if (stream != null) {
+            stream.shutdown();
+        }
+    }
+
+    @Test
+    public void testSubscribe_ReceivesOnlyMatchingEvents() throws InterruptedException {
+        stream = new OrderEventStream(meterRegistry, 100, 16, 60_000, 2);
+        Order followed = order();
+        Order other = order();
+        CapturingEmitter single = new CapturingEmitter();
+        CapturingEmitter shipped = new CapturingEmitter();
+        stream.subscribe(single, Set.of(followed.getId()), Set.of(), null);
+        stream.subscribe(shipped, Set.of(), Set.of(OrderStatus.SHIPPED), null);
+
+        publish(followed, OrderStatus.CREATED, OrderStatus.SHIPPED);
+        publish(other, OrderStatus.CREATED, OrderStatus.CANCELLED);
+        publish(followed, OrderStatus.SHIPPED, OrderStatus.COMPLETED);
+
+        OrderStatusEvent first = single.next();
+        OrderStatusEvent second = single.next();
+        assertEquals(OrderStatus.SHIPPED, first.getStatus());
+        assertEquals(OrderStatus.COMPLETED, second.getStatus());
+        assertEquals(first.getEventId() + 2, second.getEventId());
+        assertEquals(followed.getId().toString(), shipped.next().getOrderId());
+        assertNull(shipped.received.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, stream.getSubscriberCount());
+    }
+
+    @Test
+    public void testSubscribe_ReplaysEventsAfterLastEventId() throws InterruptedException {
+        stream = new OrderEventStream(meterRegistry, 100, 16, 60_000, 2);
+        Order order = order();
+        CapturingEmitter live = new CapturingEmitter();
+        stream.subscribe(live, Set.of(), Set.of(), null);
+        publish(order, OrderStatus.CREATED, OrderStatus.SHIPPED);
+        long seen = live.next().getEventId();
+        publish(order, OrderStatus.SHIPPED, OrderStatus.COMPLETED);
+
+        CapturingEmitter resumed = new CapturingEmitter();
+        stream.subscribe(resumed, Set.of(order.getId()), Set.of(), seen);
+        publish(order(), OrderStatus.CREATED, OrderStatus.CANCELLED);
+
+        OrderStatusEvent replayed = resumed.next();
+        assertEquals(seen + 1, replayed.getEventId());
+        assertEquals(OrderStatus.COMPLETED, replayed.getStatus());
+        assertNull(resumed.received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSubscribe_SendsResetWhenMissedEventsWereDropped() throws InterruptedException {
+        stream = new OrderEventStream(meterRegistry, 2, 16, 60_000, 2);
+        Order order = order();
+        CapturingEmitter live = new CapturingEmitter();
+        stream.subscribe(live, Set.of(), Set.of(), null);
+        publish(order, OrderStatus.CREATED, OrderStatus.SHIPPED);
+        long seen = live.next().getEventId();
+        for (int i = 0; i < 3; i++) {
+            publish(order, OrderStatus.SHIPPED, OrderStatus.SHIPPED);
+        }
+
+        CapturingEmitter resumed = new CapturingEmitter();
+        stream.subscribe(resumed, Set.of(), Set.of(), seen);
+
+        assertEquals(OrderEventStream.RESET_EVENT, resumed.received.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSubscribe_SendsResetWhenReplayWouldOverflowTheBuffer() throws InterruptedException {
+        stream = new OrderEventStream(meterRegistry, 100, 2, 60_000, 2);
+        Order order = order();
+        CapturingEmitter live = new CapturingEmitter();
+        stream.subscribe(live, Set.of(), Set.of(), null);
+        publish(order, OrderStatus.CREATED, OrderStatus.SHIPPED);
+        long seen = live.next().getEventId();
+        for (int i = 0; i < 3; i++) {
+            publish(order, OrderStatus.SHIPPED, OrderStatus.SHIPPED);
+            live.next();
+        }
+
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter resumed = new CapturingEmitter(release);
+        stream.subscribe(resumed, Set.of(order.getId()), Set.of(), seen);
+        release.countDown();
+        publish(order, OrderStatus.SHIPPED, OrderStatus.COMPLETED);
+
+        assertEquals(OrderEventStream.RESET_EVENT, resumed.received.poll(5, TimeUnit.SECONDS));
+        assertEquals(OrderStatus.COMPLETED, resumed.next().getStatus());
+        assertEquals(0.0, meterRegistry.get("order.events.evictions").counter().count());
+        assertEquals(2, stream.getSubscriberCount());
+    }
+
+    @Test
+    public void testPublish_EvictsSubscriberThatFallsBehind() throws InterruptedException {
+        stream = new OrderEventStream(meterRegistry, 100, 2, 60_000, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean completedOutsidePublishLock = new AtomicBoolean();
+        CapturingEmitter stuck = new CapturingEmitter(release) {
+            @Override
+            public void complete() {
+                // Subscribing takes the publish lock, so it only gets through if the publisher released it
+                CompletableFuture<Void> subscribing = CompletableFuture.runAsync(() ->
+                        stream.subscribe(new SseEmitter(), Set.of(OrderIdGenerator.next()), Set.of(), null));
+                try {
+                    subscribing.get(1, TimeUnit.SECONDS);
+                    completedOutsidePublishLock.set(true);
+                } catch (Exception e) {
+                    completedOutsidePublishLock.set(false);
+                }
+                super.complete();
+            }
+        };
+        CapturingEmitter healthy = new CapturingEmitter();
+        stream.subscribe(stuck, Set.of(), Set.of(), null);
+        stream.subscribe(healthy, Set.of(), Set.of(), null);
+        Order order = order();
+
+        // One event is being sent, two fill the buffer, the fourth overflows it
+        for (int i = 0; i < 4; i++) {
+            publish(order, OrderStatus.CREATED, OrderStatus.SHIPPED);
+            if (i == 0) {
+                assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+            }
+            // The healthy subscriber keeps up with every event
+            assertNotNull(healthy.next());
+        }
+
+        assertEquals(1.0, meterRegistry.get("order.events.evictions").counter().count());
+        assertTrue(completedOutsidePublishLock.get());
+        // the healthy subscriber and the one subscribed while completing
+        assertEquals(2, stream.getSubscriberCount());
+        release.countDown();
+    }
+
+    private void publish(Order order, OrderStatus from, OrderStatus to) {
+        order.setStatus(to);
+        stream.onOrderStatusChange(order, from.name());
+    }
+
+    private Order order() {
+        Order order = new Order("John Doe", "john@example.com", "9876543210", new BigDecimal("10.00"), NotificationType.EMAIL);
+        order.setId(OrderIdGenerator.next());
+        return order;
+    }
+
+    /**
+     * Records what would be written to the client: status events, or the name of a named event without a
+     * payload object. Optionally blocks on the first send to simulate a client that stopped reading.
+     */
+    private static class CapturingEmitter extends SseEmitter {
+        private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        CapturingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        CapturingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof OrderStatusEvent event) {
+                    received.add(event);
+                } else if (part.getData().toString().contains("event:" + OrderEventStream.RESET_EVENT)) {
+                    received.add(OrderEventStream.RESET_EVENT);
+                }
+            }
+        }
+
+        OrderStatusEvent next() throws InterruptedException {
+            Object item = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(item);
+            return (OrderStatusEvent) item;
+        }
+    }
+}
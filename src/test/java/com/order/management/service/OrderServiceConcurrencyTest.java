@@ -0,0 +1,170 @@
+package com.order.management.service;
+
+import com.order.management.dto.UpdateOrderStatusRequest;
+import com.order.management.exception.InvalidOrderStatusTransitionException;
+import com.order.management.exception.OrderConflictException;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
+import com.order.management.model.OrderStatus;
+import com.order.management.observer.OrderStatusManager;
+import com.order.management.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives many concurrent status updates through the shared {@link OrderService} and checks that every
+ * observer call carries the previous status of its own order, and that racing transitions of one order
+ * never both apply.
+ */
+class OrderServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ORDERS = 400;
+
+    private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    private final Queue<String> notifications = new ConcurrentLinkedQueue<>();
+    private OrderRepository orderRepository;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(orders.get(invocation.getArgument(0))));
+        // Same semantics as the single UPDATE ... WHERE id = ? AND status = ?
+        when(orderRepository.compareAndSetStatus(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Order order = orders.get(invocation.getArgument(0));
+            synchronized (order) {
+                if (order.getStatus() != invocation.getArgument(1)) {
+                    return 0;
+                }
+                order.setStatus(invocation.getArgument(2));
+                return 1;
+            }
+        });
+        OrderStatusManager statusManager = new OrderStatusManager(List.of((order, previousStatus) ->
+                notifications.add(order.getId() + ":" + previousStatus + "->" + order.getStatus())),
+                new SimpleMeterRegistry(), 1, 16);
+        orderService = new OrderService(orderRepository, mock(NotificationService.class), statusManager,
+                new OrderCache(new SimpleMeterRegistry(), false, 0, 0), OrderStateMachine.standard(),
+                mock(OrderStatistics.class), new OrderMetrics(new SimpleMeterRegistry()));
+
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order("Customer " + i, "customer" + i + "@example.com", "9876543210",
+                    new BigDecimal("10.00"), NotificationType.EMAIL);
+            order.setId(OrderIdGenerator.next());
+            orders.put(order.getId(), order);
+        }
+    }
+
+    @Test
+    void testConcurrentStatusUpdates_ObserversSeeTheirOwnPreviousStatus() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> updates = new ArrayList<>();
+        try {
+            for (UUID id : orders.keySet()) {
+                // odd-numbered ids take a different path so neighbouring updates disagree on previous status
+                boolean cancel = (id.getLeastSignificantBits() & 1) == 1;
+                updates.add(pool.submit(() -> {
+                    start.await();
+                    orderService.updateOrderStatus(id.toString(), status(OrderStatus.SHIPPED));
+                    orderService.updateOrderStatus(id.toString(), status(cancel ? OrderStatus.CANCELLED : OrderStatus.COMPLETED));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> update : updates) {
+                update.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(ORDERS * 2, notifications.size());
+        for (Order order : orders.values()) {
+            assertTrue(notifications.contains(order.getId() + ":CREATED->SHIPPED"));
+            assertTrue(notifications.contains(order.getId() + ":SHIPPED->" + order.getStatus()));
+        }
+    }
+
+    @Test
+    void testRacingTransitions_ExactlyOneWinsPerOrder() throws Exception {
+        for (Order order : orders.values()) {
+            order.setStatus(OrderStatus.SHIPPED);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> updates = new ArrayList<>();
+        try {
+            for (UUID id : orders.keySet()) {
+                for (OrderStatus target : List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED)) {
+                    updates.add(pool.submit(() -> {
+                        start.await();
+                        try {
+                            orderService.updateOrderStatus(id.toString(), status(target));
+                            applied.incrementAndGet();
+                        } catch (OrderConflictException | InvalidOrderStatusTransitionException e) {
+                            // lost the race: either mid-update (409) or after the winner finished (400)
+                            rejected.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> update : updates) {
+                update.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(ORDERS, applied.get());
+        assertEquals(ORDERS, rejected.get());
+        assertEquals(ORDERS, notifications.size());
+        for (Order order : orders.values()) {
+            assertTrue(notifications.contains(order.getId() + ":SHIPPED->" + order.getStatus()));
+        }
+    }
+
+    @Test
+    void testUpdateOrderStatus_GivesUpAfterBoundedRetries() {
+        UUID id = orders.keySet().iterator().next();
+        doReturn(0).when(orderRepository).compareAndSetStatus(any(), any(), any(), any());
+
+        assertThrows(OrderConflictException.class,
+                () -> orderService.updateOrderStatus(id.toString(), status(OrderStatus.SHIPPED)));
+        assertTrue(notifications.isEmpty());
+    }
+
+    private static UpdateOrderStatusRequest status(OrderStatus status) {
+        return UpdateOrderStatusRequest.builder().status(status).build();
+    }
+}
@@ -1,17 +1,24 @@
 package com.order.management.service;
 
 import com.order.management.dto.CreateOrderRequest;
+import com.order.management.dto.OrderPageResponse;
 import com.order.management.dto.OrderResponse;
+import com.order.management.dto.OrderSearchCriteria;
 import com.order.management.dto.UpdateOrderStatusRequest;
+import com.order.management.exception.InvalidOrderQueryException;
 import com.order.management.exception.OrderNotFoundException;
 import com.order.management.model.NotificationType;
 import com.order.management.model.Order;
+import com.order.management.model.OrderIdGenerator;
 import com.order.management.model.OrderStatus;
 import com.order.management.notification.NotificationMessageBuilder;
 import com.order.management.notification.NotificationStrategy;
 import com.order.management.notification.NotificationStrategyFactory;
+import com.order.management.model.NotificationOutboxEntry;
 import com.order.management.observer.OrderStatusManager;
+import com.order.management.repository.NotificationOutboxRepository;
 import com.order.management.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +28,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +46,9 @@ public class OrderServiceTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
     @Mock
     private NotificationStrategyFactory strategyFactory;
 
@@ -48,21 +63,23 @@ public class OrderServiceTest {
 
     private NotificationService notificationService;
     private OrderService orderService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     public void setUp() {
 
         // construct the real NotificationService but provide mocked collaborators
-        this.notificationService = new NotificationService(strategyFactory, messageBuilder);
+        this.notificationService = new NotificationService(strategyFactory, messageBuilder, outboxRepository,
+                mock(NotificationBatchAccumulator.class));
 
-        this.orderService = new OrderService(orderRepository, notificationService, orderStatusManager);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.orderService = new OrderService(orderRepository, notificationService, orderStatusManager,
+                new OrderCache(new SimpleMeterRegistry(), false, 0, 0), OrderStateMachine.standard(),
+                mock(OrderStatistics.class), new OrderMetrics(meterRegistry));
     }
 
     @Test
     public void testCreateOrder_Success() {
-        when(strategyFactory.getStrategy(any())).thenReturn(notificationStrategy);
-        when(messageBuilder.buildMessage(any(), any(),any())).thenReturn("message");
-
         CreateOrderRequest request = CreateOrderRequest.builder()
                 .customerName("John Doe")
                 .customerEmail("john@example.com")
@@ -80,14 +97,28 @@ public class OrderServiceTest {
         assertEquals(new BigDecimal("100.00"), response.getTotalAmount());
 
         // repository should contain saved order
-        assertTrue(orderRepository.findById(response.getId()).isPresent());
-       verify(strategyFactory).getStrategy(NotificationType.EMAIL);
+        assertTrue(orderRepository.findById(UUID.fromString(response.getId())).isPresent());
+
+        // notification is written to the outbox in the same transaction instead of being sent inline
+        List<NotificationOutboxEntry> outbox = outboxRepository.findAll();
+        assertEquals(1, outbox.size());
+        assertEquals(UUID.fromString(response.getId()), outbox.get(0).getOrderId());
+        assertEquals(NotificationType.EMAIL, outbox.get(0).getNotificationType());
+        assertEquals(OrderStatus.CREATED, outbox.get(0).getOrderStatus());
+        verifyNoInteractions(strategyFactory);
+
+        // every step of the create path is timed
+        assertEquals(1, meterRegistry.get("order.persistence").tag("operation", "create").timer().count());
+        for (String phase : List.of("validate", "notify", "after-processing")) {
+            assertEquals(1, meterRegistry.get("order.processing.phase")
+                    .tags("operation", "create", "phase", phase).timer().count());
+        }
     }
 
     @Test
     public void testGetOrder_Success() {
         // Arrange
-        String orderId = "order-123";
+        UUID orderId = OrderIdGenerator.next();
         Order order = Order.builder()
                 .id(orderId)
                 .customerName("John Doe")
@@ -100,11 +131,11 @@ public class OrderServiceTest {
         orderRepository.save(order);
 
         // Act
-        OrderResponse response = orderService.getOrder(orderId);
+        OrderResponse response = orderService.getOrder(orderId.toString());
 
         // Assert
         assertNotNull(response);
-        assertEquals(orderId, response.getId());
+        assertEquals(orderId.toString(), response.getId());
         assertEquals("John Doe", response.getCustomerName());
 
         // ensure repository still contains it
@@ -115,17 +146,18 @@ public class OrderServiceTest {
     public void testGetOrder_NotFound() {
         String orderId = "non-existent";
         assertThrows(OrderNotFoundException.class, () -> orderService.getOrder(orderId));
+        UUID unknownId = OrderIdGenerator.next();
+        assertThrows(OrderNotFoundException.class, () -> orderService.getOrder(unknownId.toString()));
         // repository remains empty
-        assertFalse(orderRepository.findById(orderId).isPresent());
+        assertFalse(orderRepository.findById(unknownId).isPresent());
+        assertEquals(0, orderRepository.count());
     }
 
 
     @Test
     public void testUpdateOrderStatus_CreatedToInProgress_Success() {
-        when(strategyFactory.getStrategy(any())).thenReturn(notificationStrategy);
-        when(messageBuilder.buildMessage(any(), any(),any())).thenReturn("message");
         // Arrange
-        String orderId = "order-123";
+        UUID orderId = OrderIdGenerator.next();
         Order order = Order.builder()
                 .id(orderId)
                 .customerName("John Doe")
@@ -143,16 +175,73 @@ public class OrderServiceTest {
                 .build();
 
         // Act
-        OrderResponse response = orderService.updateOrderStatus(orderId, request);
+        OrderResponse response = orderService.updateOrderStatus(orderId.toString(), request);
 
         // Assert
         assertNotNull(response);
-        assertEquals(orderId, response.getId());
+        assertEquals(orderId.toString(), response.getId());
         assertEquals(OrderStatus.SHIPPED, orderRepository.findById(orderId).map(Order::getStatus).orElse(null));
 
         verify(orderStatusManager, times(1)).notifyObservers(any(Order.class), anyString());
         verify(strategyFactory, atLeast(0)).getStrategy(NotificationType.EMAIL);
     }
 
+    @Test
+    public void testGetOrders_KeysetPagination() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(new Order("Customer " + i, "c" + i + "@example.com", "9876543210",
+                    new BigDecimal("10.00"), NotificationType.EMAIL));
+        }
+
+        List<String> seen = new ArrayList<>();
+        OrderPageResponse page = orderService.getOrders(null, 2);
+        page.getItems().forEach(o -> seen.add(o.getId()));
+        while (page.isHasMore()) {
+            assertEquals(2, page.getItems().size());
+            page = orderService.getOrders(page.getNextCursor(), 2);
+            page.getItems().forEach(o -> seen.add(o.getId()));
+        }
+
+        assertNull(page.getNextCursor());
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+    }
+
+    @Test
+    public void testSearchOrders_FiltersAndPaginates() {
+        for (int i = 0; i < 5; i++) {
+            Order order = new Order("Customer " + i, "shared@example.com", "9876543210",
+                    new BigDecimal("10.00"), NotificationType.EMAIL);
+            if (i % 2 == 1) {
+                order.setStatus(OrderStatus.SHIPPED);
+            }
+            orderRepository.save(order);
+        }
+        orderRepository.save(new Order("Other", "other@example.com", "9876543210",
+                new BigDecimal("10.00"), NotificationType.EMAIL));
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder()
+                .customerEmail("shared@example.com")
+                .status(OrderStatus.CREATED)
+                .build();
+
+        OrderPageResponse first = orderService.searchOrders(criteria, null, 2);
+        OrderPageResponse second = orderService.searchOrders(criteria, first.getNextCursor(), 2);
+
+        assertEquals(2, first.getItems().size());
+        assertTrue(first.isHasMore());
+        assertEquals(1, second.getItems().size());
+        assertFalse(second.isHasMore());
+        assertTrue(Stream.concat(first.getItems().stream(), second.getItems().stream())
+                .allMatch(o -> o.getStatus() == OrderStatus.CREATED && o.getCustomerEmail().equals("shared@example.com")));
+        assertEquals(List.of("Customer 0", "Customer 2", "Customer 4"),
+                Stream.concat(first.getItems().stream(), second.getItems().stream()).map(OrderResponse::getCustomerName).toList());
+    }
+
+    @Test
+    public void testSearchOrders_RejectsEmptyDateRange() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().createdFrom(now).createdTo(now).build();
 
-}
\ No newline at end of file
+        assertThrows(InvalidOrderQueryException.class, () -> orderService.searchOrders(criteria, null, 10));
+    }
+}
@@ -0,0 +1,85 @@
+package com.order.management.service;
+
+import com.order.management.exception.InvalidOrderStatusTransitionException;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStateMachineTest {
+
+    private final OrderStateMachine standard = OrderStateMachine.standard();
+
+    @Test
+    void testStandardTransitions() {
+        assertEquals(EnumSet.of(OrderStatus.SHIPPED, OrderStatus.COMPLETED, OrderStatus.CANCELLED),
+                standard.allowedNextStates(OrderStatus.CREATED));
+        assertEquals(EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED), standard.allowedNextStates(OrderStatus.SHIPPED));
+        assertTrue(standard.allowedNextStates(OrderStatus.COMPLETED).isEmpty());
+        assertTrue(standard.isAllowed(OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+        assertFalse(standard.isAllowed(OrderStatus.SHIPPED, OrderStatus.CREATED));
+        assertThrows(UnsupportedOperationException.class,
+                () -> standard.allowedNextStates(OrderStatus.CREATED).add(OrderStatus.CREATED));
+    }
+
+    @Test
+    void testValidate_RejectsWithPrecomputedMessages() {
+        InvalidOrderStatusTransitionException invalid = assertThrows(InvalidOrderStatusTransitionException.class,
+                () -> standard.validate(order(OrderStatus.SHIPPED), OrderStatus.CREATED));
+        assertEquals("Invalid transition from SHIPPED to CREATED", invalid.getMessage());
+
+        InvalidOrderStatusTransitionException terminal = assertThrows(InvalidOrderStatusTransitionException.class,
+                () -> standard.validate(order(OrderStatus.CANCELLED), OrderStatus.SHIPPED));
+        assertEquals("Cannot transition from terminal status CANCELLED", terminal.getMessage());
+    }
+
+    @Test
+    void testGuardsAndHooksApplyOnlyToTheirTransitions() {
+        List<String> fired = new ArrayList<>();
+        OrderStateMachine machine = OrderStateMachine.standardTransitions()
+                .guards(List.of(new OrderTransitionGuard() {
+                    @Override
+                    public boolean appliesTo(OrderStatus from, OrderStatus to) {
+                        return to == OrderStatus.COMPLETED;
+                    }
+
+                    @Override
+                    public String reject(Order order, OrderStatus target) {
+                        return order.getTotalAmount().signum() == 0 ? "Nothing to complete" : null;
+                    }
+                }))
+                .hooks(List.of(new OrderTransitionHook() {
+                    @Override
+                    public boolean appliesTo(OrderStatus from, OrderStatus to) {
+                        return to == OrderStatus.CANCELLED;
+                    }
+
+                    @Override
+                    public void afterTransition(Order order, OrderStatus previousStatus) {
+                        fired.add(previousStatus + "->" + order.getStatus());
+                    }
+                }))
+                .build();
+        Order free = order(OrderStatus.CREATED);
+        free.setTotalAmount(BigDecimal.ZERO);
+
+        InvalidOrderStatusTransitionException rejected = assertThrows(InvalidOrderStatusTransitionException.class,
+                () -> machine.validate(free, OrderStatus.COMPLETED));
+        assertEquals("Nothing to complete", rejected.getMessage());
+        assertDoesNotThrow(() -> machine.validate(free, OrderStatus.CANCELLED));
+
+        machine.afterTransition(order(OrderStatus.SHIPPED), OrderStatus.CREATED);
+        machine.afterTransition(order(OrderStatus.CANCELLED), OrderStatus.SHIPPED);
+        assertEquals(List.of("SHIPPED->CANCELLED"), fired);
+    }
+
+    private static Order order(OrderStatus status) {
+        return Order.builder().status(status).totalAmount(new BigDecimal("10.00")).build();
+    }
+}
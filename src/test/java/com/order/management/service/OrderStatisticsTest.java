@@ -0,0 +1,173 @@
+package com.order.management.service;
+
+import com.order.management.dto.OrderStatsResponse;
+import com.order.management.dto.OrderStatsRow;
+import com.order.management.model.NotificationType;
+import com.order.management.model.Order;
+import com.order.management.model.OrderStatus;
+import com.order.management.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+public class OrderStatisticsTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OrderStatistics orderStatistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.orderStatistics = new OrderStatistics(orderRepository, transactionManager);
+    }
+
+    @Test
+    public void testReconcile_SeedsCountersFromAggregateQuery() {
+        LocalDateTime today = LocalDateTime.now();
+        orderRepository.saveAndFlush(order(OrderStatus.CREATED, "10.50", today));
+        orderRepository.saveAndFlush(order(OrderStatus.CREATED, "4.25", today));
+        orderRepository.saveAndFlush(order(OrderStatus.SHIPPED, "100.00", today.minusDays(1)));
+
+        orderStatistics.reconcile();
+        OrderStatsResponse stats = orderStatistics.snapshot(30);
+
+        assertEquals(3, stats.getTotalOrders());
+        assertEquals(new BigDecimal("114.75"), stats.getTotalRevenue());
+        assertEquals(2, stats.getByStatus().get(OrderStatus.CREATED).getCount());
+        assertEquals(new BigDecimal("14.75"), stats.getByStatus().get(OrderStatus.CREATED).getRevenue());
+        assertEquals(1, stats.getByStatus().get(OrderStatus.SHIPPED).getCount());
+        assertEquals(0, stats.getByStatus().get(OrderStatus.COMPLETED).getCount());
+        assertEquals(2, stats.getByDay().get(today.toLocalDate()).getCount());
+        assertEquals(1, stats.getByDay().get(today.toLocalDate().minusDays(1)).getCount());
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    @Test
+    public void testSnapshot_LimitsDayBreakdown() {
+        LocalDateTime today = LocalDateTime.now();
+        orderRepository.saveAndFlush(order(OrderStatus.CREATED, "1.00", today));
+        orderRepository.saveAndFlush(order(OrderStatus.CREATED, "1.00", today.minusDays(5)));
+
+        orderStatistics.reconcile();
+        OrderStatsResponse stats = orderStatistics.snapshot(1);
+
+        assertEquals(2, stats.getTotalOrders());
+        assertEquals(1, stats.getByDay().size());
+        assertTrue(stats.getByDay().containsKey(LocalDate.now()));
+    }
+
+    @Test
+    public void testRecordCreated_AppliedOnlyAfterCommit() {
+        orderStatistics.recordCreated(order(OrderStatus.CREATED, "20.00", LocalDateTime.now()));
+        assertEquals(0, orderStatistics.snapshot(30).getTotalOrders());
+
+        // The test transaction rolls back, so the order never existed
+        TestTransaction.end();
+        assertEquals(0, orderStatistics.snapshot(30).getTotalOrders());
+
+        orderStatistics.recordCreated(order(OrderStatus.CREATED, "20.00", LocalDateTime.now()));
+        OrderStatsResponse stats = orderStatistics.snapshot(30);
+        assertEquals(1, stats.getTotalOrders());
+        assertEquals(new BigDecimal("20.00"), stats.getTotalRevenue());
+        assertEquals(1, stats.getByDay().get(LocalDate.now()).getCount());
+    }
+
+    @Test
+    public void testOnOrderStatusChange_MovesCountAndRevenueBetweenStatuses() {
+        TestTransaction.end();
+        Order order = order(OrderStatus.CREATED, "12.34", LocalDateTime.now());
+        orderStatistics.recordCreated(order);
+
+        order.setStatus(OrderStatus.SHIPPED);
+        orderStatistics.onOrderStatusChange(order, OrderStatus.CREATED.toString());
+        OrderStatsResponse stats = orderStatistics.snapshot(30);
+
+        assertEquals(1, stats.getTotalOrders());
+        assertEquals(0, stats.getByStatus().get(OrderStatus.CREATED).getCount());
+        assertEquals(new BigDecimal("0.00"), stats.getByStatus().get(OrderStatus.CREATED).getRevenue());
+        assertEquals(1, stats.getByStatus().get(OrderStatus.SHIPPED).getCount());
+        assertEquals(new BigDecimal("12.34"), stats.getByStatus().get(OrderStatus.SHIPPED).getRevenue());
+        assertEquals(new BigDecimal("12.34"), stats.getTotalRevenue());
+    }
+
+    @Test
+    public void testReconcile_ReplaysOnlyChangesTheAggregateDidNotSee() throws Exception {
+        TestTransaction.end();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Order shippedBefore = transaction.execute(status -> orderRepository.save(order(OrderStatus.CREATED, "10.00", LocalDateTime.now())));
+        Order shippedDuring = transaction.execute(status -> orderRepository.save(order(OrderStatus.CREATED, "5.00", LocalDateTime.now())));
+        OrderRepository racingRepository = mock(OrderRepository.class, AdditionalAnswers.delegatesTo(orderRepository));
+        OrderStatistics statistics = new OrderStatistics(racingRepository, transactionManager);
+        ExecutorService otherRequests = Executors.newSingleThreadExecutor();
+        try {
+            // committed before the reconcile, but its commit callback only runs once the journal is open
+            ship(shippedBefore, otherRequests);
+            doAnswer(invocation -> {
+                otherRequests.submit(() -> statistics.onOrderStatusChange(shippedBefore, OrderStatus.CREATED.toString()))
+                        .get(5, TimeUnit.SECONDS);
+                List<OrderStatsRow> rows = orderRepository.aggregateStats();
+                // committed and recorded after the aggregate read its snapshot
+                ship(shippedDuring, otherRequests);
+                otherRequests.submit(() -> statistics.onOrderStatusChange(shippedDuring, OrderStatus.CREATED.toString()))
+                        .get(5, TimeUnit.SECONDS);
+                return rows;
+            }).when(racingRepository).aggregateStats();
+
+            statistics.reconcile();
+            OrderStatsResponse stats = statistics.snapshot(30);
+
+            assertEquals(2, stats.getTotalOrders());
+            assertEquals(0, stats.getByStatus().get(OrderStatus.CREATED).getCount());
+            assertEquals(2, stats.getByStatus().get(OrderStatus.SHIPPED).getCount());
+            assertEquals(new BigDecimal("15.00"), stats.getByStatus().get(OrderStatus.SHIPPED).getRevenue());
+        } finally {
+            otherRequests.shutdown();
+            transaction.executeWithoutResult(status -> orderRepository.deleteAllById(
+                    List.of(shippedBefore.getId(), shippedDuring.getId())));
+        }
+    }
+
+    private void ship(Order order, ExecutorService otherRequests) throws Exception {
+        otherRequests.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.compareAndSetStatus(order.getId(), OrderStatus.CREATED, OrderStatus.SHIPPED, Order.now())))
+                .get(5, TimeUnit.SECONDS);
+        order.setStatus(OrderStatus.SHIPPED);
+    }
+
+    private Order order(OrderStatus status, String amount, LocalDateTime createdAt) {
+        return Order.builder()
+                .id(UUID.randomUUID())
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .mobileNumber("9876543210")
+                .totalAmount(new BigDecimal(amount))
+                .status(status)
+                .preferredNotificationType(NotificationType.EMAIL)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}